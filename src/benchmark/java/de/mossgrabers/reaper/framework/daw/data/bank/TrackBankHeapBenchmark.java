@@ -0,0 +1,114 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.daw.data.bank;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
+import de.mossgrabers.framework.daw.ModelEpoch;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.reaper.communication.BackendExchange;
+import de.mossgrabers.reaper.framework.daw.DataSetupEx;
+import de.mossgrabers.reaper.framework.daw.data.CursorTrackImpl;
+import de.mossgrabers.reaper.framework.daw.data.TrackImpl;
+
+import java.lang.reflect.Proxy;
+
+
+/**
+ * Measures the heap used by the track bank of a synthetic project. Creates a flat project with a
+ * large number of tracks, then scrolls page by page through all of them and reads the slots and the
+ * first track parameter of each visible track, like a controller showing a session page does. The
+ * retained heap is printed after the tracks are created and after scrolling. Run it with
+ * 'gradlew runHeapBenchmark', it is not part of the product build.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TrackBankHeapBenchmark
+{
+    private static final int NUM_TRACKS = 2000;
+    private static final int PAGE_SIZE  = 8;
+    private static final int NUM_SCENES = 8;
+    private static final int NUM_SENDS  = 8;
+    private static final int NUM_PARAMS = 8;
+    private static final int MAX_SLOTS  = 64;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private TrackBankHeapBenchmark ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args The number of tracks can be given as the first argument
+     */
+    public static void main (final String [] args)
+    {
+        final int numTracks = args.length > 0 ? Integer.parseInt (args[0]) : NUM_TRACKS;
+
+        // Nothing is sent to the DAW
+        final BackendExchange sender = (BackendExchange) Proxy.newProxyInstance (TrackBankHeapBenchmark.class.getClassLoader (), new Class<?> []
+        {
+            BackendExchange.class
+        }, (proxy, method, methodArgs) -> method.getReturnType () == boolean.class ? Boolean.FALSE : null);
+        final DataSetupEx dataSetup = new DataSetupEx (null, new TwosComplementValueChanger (1024, 8), new ColorManager (), new ModelEpoch (), sender);
+        dataSetup.setCursorTrack (new CursorTrackImpl (null, NUM_PARAMS, NUM_SENDS, NUM_SCENES));
+        final SceneBankImpl sceneBank = new SceneBankImpl (dataSetup, NUM_SCENES);
+
+        final long baseHeap = getUsedHeap ();
+
+        final TrackBankImpl trackBank = new TrackBankImpl (dataSetup, null, PAGE_SIZE, sceneBank, NUM_SCENES, NUM_SENDS, NUM_PARAMS, true, true);
+        trackBank.setItemCount (numTracks);
+        for (int i = 0; i < numTracks; i++)
+        {
+            final TrackImpl track = trackBank.getUnpagedItem (i);
+            track.setExists (true);
+            track.setPosition (i);
+        }
+        trackBank.setMaxSlotCount (MAX_SLOTS);
+        trackBank.markDirty ();
+        print (numTracks + " tracks created", getUsedHeap () - baseHeap, trackBank);
+
+        for (int offset = 0; offset < numTracks; offset += PAGE_SIZE)
+        {
+            trackBank.setBankOffset (offset);
+            for (int i = 0; i < PAGE_SIZE; i++)
+            {
+                final ITrack track = trackBank.getItem (i);
+                for (int slot = 0; slot < NUM_SCENES; slot++)
+                    track.getSlotBank ().getItem (slot).getName ();
+                if (track instanceof final TrackImpl trackImpl && trackImpl.getParameterBank () != null)
+                    trackImpl.getParameterBank ().getItem (0).getValue ();
+            }
+        }
+        print ("After scrolling through all tracks", getUsedHeap () - baseHeap, trackBank);
+    }
+
+
+    private static void print (final String label, final long usedHeap, final TrackBankImpl trackBank)
+    {
+        int slotBanks = 0;
+        for (int i = 0; i < trackBank.getItemCount (); i++)
+        {
+            if (trackBank.getUnpagedItem (i).getCreatedSlotBank () != null)
+                slotBanks++;
+        }
+        System.out.println (String.format ("%s: %.2f MB, %d slot banks", label, Double.valueOf (usedHeap / 1048576.0), Integer.valueOf (slotBanks)));
+    }
+
+
+    private static long getUsedHeap ()
+    {
+        final Runtime runtime = Runtime.getRuntime ();
+        for (int i = 0; i < 5; i++)
+            System.gc ();
+        return runtime.totalMemory () - runtime.freeMemory ();
+    }
+}
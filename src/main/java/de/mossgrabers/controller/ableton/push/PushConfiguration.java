@@ -558,6 +558,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         this.activateStopAutomationOnKnobReleaseSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateInputCoalescingSetting (globalSettings);
 
         ///////////////////////////
         // Add Track - Device Favorites
@@ -12,6 +12,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
@@ -253,6 +254,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
 
+    private static final int                         NUM_SLOT_TYPES               = CommandSlot.TYPE_MMC + 1;
+    private static final int                         NUM_SLOT_INDEX_ENTRIES       = NUM_SLOT_TYPES * 128 * 16;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -277,6 +281,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private volatile List<List<CommandSlot>>         slotIndex;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
@@ -472,7 +477,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         });
         this.functionLayerSetting.addValueObserver (value -> this.getSelectedSlot ().setFunctionLayer (lookupIndex (FUNCTION_LAYERS, value) - 1));
 
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.notifyObservers (SLOT_CHANGE);
+        });
         this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
 
         ///////////////////////////////////////////////
@@ -564,6 +572,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.clearNoteMap ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -625,21 +634,78 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      * @param type The type
      * @param number The number
      * @param midiChannel The MIDI channel
-     * @return The list with all matching slot command, might be empty
+     * @return The unmodifiable list with all matching slot command, might be empty
      */
     public List<CommandSlot> getSlotCommands (final int type, final int number, final int midiChannel)
     {
-        final List<CommandSlot> results = new ArrayList<> ();
+        if (type < 0 || type >= NUM_SLOT_TYPES || number < 0 || number > 127 || midiChannel < 0 || midiChannel > 15)
+            return Collections.emptyList ();
+
+        List<List<CommandSlot>> index = this.slotIndex;
+        if (index == null)
+        {
+            synchronized (this.syncMapUpdate)
+            {
+                if (this.slotIndex == null)
+                    this.slotIndex = this.createSlotIndex ();
+                index = this.slotIndex;
+            }
+        }
+        return index.get (getSlotIndexKey (type, number, midiChannel));
+    }
+
+
+    /**
+     * Creates the lookup table for the slot commands. The entries contain all slots which match
+     * type, number and MIDI channel. Slots configured for all channels are added to the entries of
+     * all 16 channels. The order of the slots is kept.
+     *
+     * @return The lookup table
+     */
+    private List<List<CommandSlot>> createSlotIndex ()
+    {
+        final List<List<CommandSlot>> index = new ArrayList<> (Collections.nCopies (NUM_SLOT_INDEX_ENTRIES, Collections.<CommandSlot> emptyList ()));
         for (final CommandSlot slot: this.commandSlots)
         {
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            final int type = slot.getType ();
+            if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type >= NUM_SLOT_TYPES)
+                continue;
+
+            final int number = slot.getNumber ();
+            if (number < 0 || number > 127)
+                continue;
+
+            final int channel = slot.getMidiChannel ();
+            final int fromChannel = channel == 16 ? 0 : channel;
+            final int toChannel = channel == 16 ? 15 : channel;
+            for (int c = fromChannel; c <= toChannel; c++)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    results.add (slot);
+                final int key = getSlotIndexKey (type, number, c);
+                List<CommandSlot> entry = index.get (key);
+                if (entry.isEmpty ())
+                {
+                    entry = new ArrayList<> ();
+                    index.set (key, entry);
+                }
+                entry.add (slot);
             }
         }
-        return results;
+
+        for (int i = 0; i < NUM_SLOT_INDEX_ENTRIES; i++)
+        {
+            final List<CommandSlot> entry = index.get (i);
+            if (!entry.isEmpty ())
+                index.set (i, List.copyOf (entry));
+        }
+        return index;
+    }
+
+
+    private static int getSlotIndexKey (final int type, final int number, final int midiChannel)
+    {
+        // The number is not relevant for pitch bend
+        final int n = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        return (type * 128 + n) * 16 + midiChannel;
     }
 
 
@@ -678,6 +744,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotIndex = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
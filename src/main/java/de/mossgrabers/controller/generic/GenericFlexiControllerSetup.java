@@ -253,6 +253,8 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
 
         final GenericFlexiControlSurface surface = this.getSurface ();
         this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, surface::updateKeyTranslation);
+        this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, surface::markAllDirty);
+        this.model.addModelChangeObserver (surface::markDirty);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.SELECTED_MODE, this::selectMode);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
@@ -261,7 +263,10 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
         if (effectTrackBank != null)
             effectTrackBank.addSelectionObserver ( (index, selected) -> this.handleTrackChange (selected));
 
-        surface.getModeManager ().addChangeListener ( (oldMode, newMode) -> this.updateIndication ());
+        surface.getModeManager ().addChangeListener ( (oldMode, newMode) -> {
+            this.updateIndication ();
+            surface.markAllDirty ();
+        });
 
         // Handle configuration changes
         this.createNoteRepeatObservers (this.configuration, surface);
@@ -6,12 +6,13 @@ package de.mossgrabers.controller.generic.controller;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
 import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
@@ -21,6 +22,7 @@ import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
@@ -45,7 +47,12 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         new FileFilter ("All files", "*")
     };
 
+    private static final int                              ALL_MODEL_AREAS       = (1 << ModelArea.values ().length) - 1;
+
     private final int []                                  valueCache            = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  commandDependencies   = new int [FlexiCommand.values ().length];
+    private final AtomicInteger                           dirtyModelAreas       = new AtomicInteger (ALL_MODEL_AREAS);
+    private final AtomicInteger                           skippedModelAreas     = new AtomicInteger ();
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers              = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
@@ -82,6 +89,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
 
         Arrays.fill (this.valueCache, -1);
+        Arrays.fill (this.commandDependencies, ALL_MODEL_AREAS);
 
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_SAVE, this::saveFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_LOAD, this::loadAndSelectFile);
@@ -97,7 +105,43 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
      */
     public void registerHandler (final IFlexiCommandHandler handler)
     {
-        Arrays.asList (handler.getSupportedCommands ()).forEach (command -> this.handlers.put (command, handler));
+        for (final FlexiCommand command: handler.getSupportedCommands ())
+        {
+            this.handlers.put (command, handler);
+
+            int dependencies = 0;
+            for (final ModelArea area: handler.getDependencies (command))
+                dependencies |= 1 << area.ordinal ();
+            this.commandDependencies[command.ordinal ()] = dependencies;
+        }
+    }
+
+
+    /**
+     * Mark all slots as dirty, which depend on the given area of the model. Their values are
+     * queried again on the next flush.
+     *
+     * @param area The area of the model which has changed
+     */
+    public void markDirty (final ModelArea area)
+    {
+        this.markDirty (1 << area.ordinal ());
+    }
+
+
+    private void markDirty (final int areas)
+    {
+        if (areas != 0)
+            this.dirtyModelAreas.getAndUpdate (dirtyAreas -> dirtyAreas | areas);
+    }
+
+
+    /**
+     * Mark all slots as dirty. Their values are queried again on the next flush.
+     */
+    public void markAllDirty ()
+    {
+        this.dirtyModelAreas.set (ALL_MODEL_AREAS);
     }
 
 
@@ -105,11 +149,20 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        // Only query the slots which depend on a part of the model, which has changed
+        final int dirtyAreas = this.dirtyModelAreas.getAndSet (0);
+        if (dirtyAreas == 0)
+            return;
+
+        // Most values are not sent while a value is received, send them after the update
+        if (this.isUpdatingValue)
+            this.skippedModelAreas.getAndUpdate (areas -> areas | dirtyAreas);
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
         for (int i = 0; i < slots.length; i++)
         {
             final FlexiCommand command = slots[i].getCommand ();
-            if (command != FlexiCommand.OFF && slots[i].isSendValue ())
+            if (command != FlexiCommand.OFF && slots[i].isSendValue () && (this.commandDependencies[command.ordinal ()] & dirtyAreas) != 0)
                 this.flushValue (i, slots[i]);
         }
     }
@@ -298,17 +351,14 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
 
         // No Hi-Res
-        final List<CommandSlot> commandSlots = new ArrayList<> ();
+        final List<CommandSlot> commandSlots;
         if (matchedCommandSlot == null)
         {
-            for (final CommandSlot commandSlot: this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel))
-            {
-                commandSlots.add (commandSlot);
-                value = data2;
-            }
+            commandSlots = this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel);
+            value = data2;
         }
         else
-            commandSlots.add (matchedCommandSlot);
+            commandSlots = Collections.singletonList (matchedCommandSlot);
 
         final MidiValue midiValue = MidiValue.get (value, isHighResValue);
         this.handleCommand (this.processFunctionLayer (commandSlots, midiValue), midiValue);
@@ -506,7 +556,14 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
         commandHandler.handle (command, commandSlot.getKnobMode (), value);
 
-        this.host.scheduleTask ( () -> this.isUpdatingValue = false, 400);
+        // The command might have changed local states, which are not notified by the DAW
+        this.markDirty (this.commandDependencies[command.ordinal ()]);
+
+        this.host.scheduleTask ( () -> {
+            this.isUpdatingValue = false;
+            // Values were not sent while updating
+            this.markDirty (this.skippedModelAreas.getAndSet (0));
+        }, 400);
     }
 
 
@@ -583,6 +640,10 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         }
 
         if (oldLayer != this.functionLayer)
+        {
+            // Different slots are active now
+            this.markAllDirty ();
             this.getHost ().showNotification ("Functions Layer " + (this.functionLayer + 1));
+        }
     }
 }
\ No newline at end of file
@@ -11,6 +11,10 @@ import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -55,6 +59,14 @@ public class ActionHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.noneOf (ModelArea.class);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
@@ -13,6 +13,10 @@ import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -92,6 +96,14 @@ public class BrowserHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.noneOf (ModelArea.class);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
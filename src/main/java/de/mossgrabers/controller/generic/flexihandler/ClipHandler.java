@@ -14,9 +14,12 @@ import de.mossgrabers.framework.command.trigger.clip.NewCommand;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.IClip;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.ISlot;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -71,6 +74,14 @@ public class ClipHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.of (ModelArea.TRACK, ModelArea.CLIP);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
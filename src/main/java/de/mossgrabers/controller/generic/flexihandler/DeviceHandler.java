@@ -4,7 +4,9 @@
 
 package de.mossgrabers.controller.generic.flexihandler;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
 import de.mossgrabers.controller.generic.controller.FlexiCommand;
@@ -14,6 +16,7 @@ import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.parameter.IFocusedParameter;
@@ -101,6 +104,14 @@ public class DeviceHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.of (ModelArea.DEVICE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
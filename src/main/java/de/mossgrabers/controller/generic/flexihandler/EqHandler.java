@@ -13,11 +13,15 @@ import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.EqualizerBandType;
 import de.mossgrabers.framework.daw.data.IEqualizerDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.parameter.IParameter;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * The handler for equalizer commands.
@@ -88,6 +92,14 @@ public class EqHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.of (ModelArea.DEVICE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
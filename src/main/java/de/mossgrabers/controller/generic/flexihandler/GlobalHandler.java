@@ -13,8 +13,12 @@ import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * The handler for global commands.
@@ -61,6 +65,14 @@ public class GlobalHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.of (ModelArea.PROJECT);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
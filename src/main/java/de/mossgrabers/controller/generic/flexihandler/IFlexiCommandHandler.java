@@ -7,6 +7,10 @@ package de.mossgrabers.controller.generic.flexihandler;
 import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.framework.daw.constants.ModelArea;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -33,6 +37,20 @@ public interface IFlexiCommandHandler
     int getCommandValue (FlexiCommand command);
 
 
+    /**
+     * Get the areas of the model on which the value of the given command depends. The value is
+     * only queried again if one of these areas received a change from the DAW or a command was
+     * executed. The default depends on all areas.
+     *
+     * @param command The command
+     * @return The areas, an empty set if the value never changes
+     */
+    default Set<ModelArea> getDependencies (final FlexiCommand command)
+    {
+        return EnumSet.allOf (ModelArea.class);
+    }
+
+
     /**
      * Execute the given command (if supported).
      *
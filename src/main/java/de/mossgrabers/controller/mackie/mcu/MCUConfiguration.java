@@ -450,6 +450,7 @@ public class MCUConfiguration extends AbstractConfiguration
         this.activateChannelTouchSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
         this.activateEncoderKnobSpeedSetting (globalSettings);
+        this.activateInputCoalescingSetting (globalSettings);
     }
 
 
@@ -57,9 +57,18 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         "High (16384)"
     };
 
+    private static final String [] TRANSPORT_OPTIONS         =
+    {
+        "UDP",
+        "TCP (SLIP)"
+    };
+
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private int                    maxPacketSize             = 1400;
+    private boolean                useTimeTags               = false;
+    private boolean                useTCP                    = false;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private final String []        assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
@@ -100,6 +109,15 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IIntegerSetting maxPacketSizeSetting = globalSettings.getRangeSetting ("Max. packet size (requires restart)", CATEGORY_SETUP, 512, 65507, 1, " Bytes", 1400);
+        this.maxPacketSize = maxPacketSizeSetting.get ().intValue ();
+
+        final IEnumSetting useTimeTagsSetting = globalSettings.getEnumSetting ("Time tag bundles (requires restart)", CATEGORY_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        this.useTimeTags = ON_OFF_OPTIONS[1].equals (useTimeTagsSetting.get ());
+
+        final IEnumSetting transportSetting = globalSettings.getEnumSetting ("Transport (requires restart)", CATEGORY_SETUP, TRANSPORT_OPTIONS, TRANSPORT_OPTIONS[0]);
+        this.useTCP = TRANSPORT_OPTIONS[1].equals (transportSetting.get ());
+
         ///////////////////////////
         // Protocol
 
@@ -190,6 +208,40 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the maximum size of a packet to send. Bundles are split into several packets to stay
+     * below this size.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Should bundles be stamped with the current time instead of the immediate time tag?
+     *
+     * @return True to stamp the current time
+     */
+    public boolean isUseTimeTags ()
+    {
+        return this.useTimeTags;
+    }
+
+
+    /**
+     * Should OSC be sent and received as SLIP framed packets over TCP instead of UDP datagrams?
+     *
+     * @return True to use TCP
+     */
+    public boolean isUseTCP ()
+    {
+        return this.useTCP;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -192,7 +192,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort, this.configuration.getMaxPacketSize (), this.configuration.isUseTimeTags (), this.configuration.isUseTCP ());
         this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
 
         // Receive OSC messages
@@ -217,7 +217,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
             parser.registerModule (module);
         });
 
-        this.oscServer = this.host.createOSCServer (parser);
+        this.oscServer = this.host.createOSCServer (parser, this.configuration.isUseTCP ());
     }
 
 
@@ -4,8 +4,10 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,6 +18,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.IClip;
 import de.mossgrabers.framework.daw.data.ISend;
+import de.mossgrabers.framework.daw.data.bank.IParameterBank;
+import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.parameter.IParameter;
 
@@ -170,7 +174,7 @@ public abstract class AbstractModule implements IModule
      * @return The sub-command
      * @throws MissingCommandException If the path is empty
      */
-    protected static String getSubCommand (final LinkedList<String> path) throws MissingCommandException
+    protected static String getSubCommand (final OSCPath path) throws MissingCommandException
     {
         if (path.isEmpty ())
             throw new MissingCommandException ();
@@ -200,6 +204,75 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Flush all data of a parameter.
+     *
+     * @param writer Where to send the messages to
+     * @param addresses The addresses of the parameter
+     * @param fxParam The parameter
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final ParameterAddresses addresses, final IParameter fxParam, final boolean dump)
+    {
+        final boolean isSend = fxParam instanceof ISend;
+        if (isSend)
+            writer.sendOSC (addresses.activated, ((ISend) fxParam).isEnabled (), dump);
+
+        writer.sendOSC (addresses.exists, fxParam.doesExist (), dump);
+        writer.sendOSC (addresses.name, fxParam.getName (), dump);
+        writer.sendOSC (isSend ? addresses.volumeStr : addresses.valueStr, fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (isSend ? addresses.volume : addresses.value, fxParam.getValue (), dump);
+        writer.sendOSC (addresses.modulatedValue, fxParam.getModulatedValue (), dump);
+    }
+
+
+    /**
+     * Flush all parameters and parameter pages of a parameter bank.
+     *
+     * @param writer Where to send the messages to
+     * @param addresses The addresses of the parameter bank
+     * @param parameterBank The parameter bank
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected void flushParameterBank (final IOpenSoundControlWriter writer, final ParameterBankAddresses addresses, final IParameterBank parameterBank, final boolean dump)
+    {
+        for (int i = 0; i < parameterBank.getPageSize (); i++)
+            this.flushParameterData (writer, addresses.getParameter (i), parameterBank.getItem (i), dump);
+
+        final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
+        final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
+        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
+        {
+            final String pageName = parameterPageBank.getItem (i);
+            final PageAddresses pageAddresses = addresses.getPage (i);
+            writer.sendOSC (pageAddresses.exists, !pageName.isBlank (), dump);
+            writer.sendOSC (pageAddresses.page, pageName, dump);
+            writer.sendOSC (pageAddresses.name, pageName, dump);
+            writer.sendOSC (pageAddresses.selected, selectedParameterPage == i, dump);
+        }
+        final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
+        writer.sendOSC (addresses.selectedPageName, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+    }
+
+
+    /**
+     * Get the addresses for an index. If the addresses of the index do not exist yet, they are
+     * created and added to the list.
+     *
+     * @param <T> The type of the addresses
+     * @param addresses The list with the addresses of all indices
+     * @param index The index
+     * @param factory Creates the addresses for an index
+     * @return The addresses of the index
+     */
+    protected static <T> T getAddresses (final List<T> addresses, final int index, final IntFunction<T> factory)
+    {
+        while (addresses.size () <= index)
+            addresses.add (factory.apply (addresses.size ()));
+        return addresses.get (index);
+    }
+
+
     protected static Optional<ColorEx> matchColor (final String value)
     {
         final Matcher matcher = RGB_COLOR_PATTERN.matcher (value);
@@ -210,4 +283,100 @@ public abstract class AbstractModule implements IModule
             return Optional.of (new ColorEx (Double.parseDouble (matcher.group (2)) / 255.0, Double.parseDouble (matcher.group (4)) / 255.0, Double.parseDouble (matcher.group (6)) / 255.0));
         return Optional.empty ();
     }
+
+
+    /** The address keys of all values of a parameter. */
+    protected static class ParameterAddresses
+    {
+        final int activated;
+        final int exists;
+        final int name;
+        final int valueStr;
+        final int volumeStr;
+        final int value;
+        final int volume;
+        final int modulatedValue;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which creates the keys
+         * @param fxAddress The start address for the parameter
+         */
+        protected ParameterAddresses (final IOpenSoundControlWriter writer, final String fxAddress)
+        {
+            this.activated = writer.getAddressKey (fxAddress + TAG_ACTIVATED);
+            this.exists = writer.getAddressKey (fxAddress + TAG_EXISTS);
+            this.name = writer.getAddressKey (fxAddress + TAG_NAME);
+            this.valueStr = writer.getAddressKey (fxAddress + "valueStr");
+            this.volumeStr = writer.getAddressKey (fxAddress + "volumeStr");
+            this.value = writer.getAddressKey (fxAddress + "value");
+            this.volume = writer.getAddressKey (fxAddress + TAG_VOLUME);
+            this.modulatedValue = writer.getAddressKey (fxAddress + "modulatedValue");
+        }
+    }
+
+
+    /** The address keys of all values of a parameter page. */
+    protected static class PageAddresses
+    {
+        final int exists;
+        final int page;
+        final int name;
+        final int selected;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which creates the keys
+         * @param pageAddress The start address for the page
+         */
+        protected PageAddresses (final IOpenSoundControlWriter writer, final String pageAddress)
+        {
+            this.exists = writer.getAddressKey (pageAddress + TAG_EXISTS);
+            this.page = writer.getAddressKey (pageAddress);
+            this.name = writer.getAddressKey (pageAddress + TAG_NAME);
+            this.selected = writer.getAddressKey (pageAddress + TAG_SELECTED);
+        }
+    }
+
+
+    /** The address keys of all parameters and pages of a parameter bank. */
+    protected static class ParameterBankAddresses
+    {
+        private final IOpenSoundControlWriter  writer;
+        private final String                   address;
+        private final List<ParameterAddresses> parameters = new ArrayList<> ();
+        private final List<PageAddresses>      pages      = new ArrayList<> ();
+        final int                              selectedPageName;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which creates the keys
+         * @param address The start address, e.g. /track/ for /track/param/1/... and
+         *            /track/page/1/...
+         */
+        protected ParameterBankAddresses (final IOpenSoundControlWriter writer, final String address)
+        {
+            this.writer = writer;
+            this.address = address;
+            this.selectedPageName = writer.getAddressKey (address + "page/selected/" + TAG_NAME);
+        }
+
+
+        ParameterAddresses getParameter (final int index)
+        {
+            return getAddresses (this.parameters, index, i -> new ParameterAddresses (this.writer, this.address + "param/" + (i + 1) + "/"));
+        }
+
+
+        PageAddresses getPage (final int index)
+        {
+            return getAddresses (this.pages, index, i -> new PageAddresses (this.writer, this.address + "page/" + (i + 1) + "/"));
+        }
+    }
 }
@@ -10,9 +10,11 @@ import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -54,22 +56,22 @@ public class ActionModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.noneOf (ModelArea.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"action".equals (command))
             throw new UnknownCommandException (command);
 
-        final String subCommand = getSubCommand (path);
-        try
-        {
-            final int actionNo = Math.min (OSCConfiguration.NUM_ASSIGNABLE_ACTIONS - 1, Math.max (0, Integer.parseInt (subCommand) - 1));
-            final String assignableActionID = this.configuration.getAssignableAction (actionNo);
-            if (assignableActionID != null)
-                this.model.getApplication ().invokeAction (assignableActionID);
-        }
-        catch (final NumberFormatException ex)
-        {
-            throw new UnknownCommandException (subCommand);
-        }
+        final int actionNo = Math.min (OSCConfiguration.NUM_ASSIGNABLE_ACTIONS - 1, Math.max (0, path.removeNumber () - 1));
+        final String assignableActionID = this.configuration.getAssignableAction (actionNo);
+        if (assignableActionID != null)
+            this.model.getApplication ().invokeAction (assignableActionID);
     }
 }
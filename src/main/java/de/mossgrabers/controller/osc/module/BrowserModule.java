@@ -4,7 +4,8 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
@@ -12,6 +13,7 @@ import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
@@ -50,7 +52,7 @@ public class BrowserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"browser".equals (command))
             throw new UnknownCommandException (command);
@@ -90,8 +92,7 @@ public class BrowserModule extends AbstractModule
                 break;
 
             case "filter":
-                final String indexCmd = getSubCommand (path);
-                int column = Integer.parseInt (indexCmd);
+                int column = path.removeNumber ();
                 if (column < 1 || column > 6)
                     return;
                 column = column - 1;
@@ -117,12 +118,26 @@ public class BrowserModule extends AbstractModule
                     browser.selectPreviousResult ();
                 break;
 
+            case "search":
+                if (!browser.isActive ())
+                    return;
+                browser.setSearchText (value == null ? "" : value.toString ());
+                break;
+
             default:
                 throw new UnknownCommandException (command);
         }
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.BROWSER);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -137,6 +152,7 @@ public class BrowserModule extends AbstractModule
             return;
 
         this.writer.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.writer.sendOSC (browserAddress + "search", browser.getSearchText (), dump);
 
         IBrowserColumn column;
         // Filter Columns
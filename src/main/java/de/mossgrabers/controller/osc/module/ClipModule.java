@@ -4,8 +4,9 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
@@ -14,6 +15,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
@@ -53,7 +55,7 @@ public class ClipModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"clip".equals (command))
             throw new UnknownCommandException (command);
@@ -162,6 +164,14 @@ public class ClipModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.CLIP);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
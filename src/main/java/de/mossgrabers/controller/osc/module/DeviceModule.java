@@ -4,8 +4,9 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
@@ -15,6 +16,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.EqualizerBandType;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
@@ -44,7 +46,12 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private final OSCConfiguration       configuration;
+
+    private final ParameterBankAddresses cursorDeviceAddresses;
+    private final ParameterBankAddresses primaryDeviceAddresses;
+    private final ParameterBankAddresses eqDeviceAddresses;
+    private final ParameterAddresses     lastParamAddresses;
 
 
     /**
@@ -60,6 +67,11 @@ public class DeviceModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.cursorDeviceAddresses = new ParameterBankAddresses (writer, "/device/");
+        this.primaryDeviceAddresses = new ParameterBankAddresses (writer, "/primary/");
+        this.eqDeviceAddresses = new ParameterBankAddresses (writer, "/eq/");
+        this.lastParamAddresses = new ParameterAddresses (writer, "/device/lastparam/");
     }
 
 
@@ -78,7 +90,7 @@ public class DeviceModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -102,12 +114,20 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.DEVICE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
+        this.flushDevice (this.writer, "/device/", this.cursorDeviceAddresses, cd, dump);
         this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
         if (cd.hasDrumPads ())
         {
@@ -121,13 +141,13 @@ public class DeviceModule extends AbstractModule
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
         this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDevice (this.writer, "/primary/", this.primaryDeviceAddresses, this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        this.flushDevice (this.writer, "/eq/", this.eqDeviceAddresses, this.model.getSpecificDevice (DeviceID.EQ), dump);
 
         // Last hovered/clicked parameter
         final Optional<IFocusedParameter> focusedParameter = this.model.getFocusedParameter ();
         final IParameter param = focusedParameter.isPresent () ? focusedParameter.get () : EmptyParameter.INSTANCE;
-        this.flushParameterData (this.writer, "/device/lastparam/", param, dump);
+        this.flushParameterData (this.writer, this.lastParamAddresses, param, dump);
     }
 
 
@@ -136,10 +156,11 @@ public class DeviceModule extends AbstractModule
      *
      * @param writer Where to send the messages to
      * @param deviceAddress The start address for the device
+     * @param parameterBankAddresses The addresses of the parameter bank of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ParameterBankAddresses parameterBankAddresses, final ISpecificDevice device, final boolean dump)
     {
         writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
         writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
@@ -178,27 +199,7 @@ public class DeviceModule extends AbstractModule
             }
         }
 
-        final IParameterBank parameterBank = device.getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
-
-        final IParameterPageBank parameterPageBank = device.getParameterBank ().getPageBank ();
-        final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
-        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
-        }
-        final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        this.flushParameterBank (writer, parameterBankAddresses, device.getParameterBank (), dump);
     }
 
 
@@ -238,14 +239,13 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "sibling":
-                final String siblingIndex = getSubCommand (path);
-                final int siblingNo = Integer.parseInt (siblingIndex);
+                final int siblingNo = path.removeNumber ();
                 final String subCommand2 = getSubCommand (path);
                 switch (subCommand2)
                 {
@@ -300,14 +300,14 @@ public class DeviceModule extends AbstractModule
                 break;
 
             default:
-                path.add (0, command);
+                path.restoreFirst ();
                 this.parseDeviceValue (cursorDevice, path, value);
                 break;
         }
     }
 
 
-    private void parseDeviceValue (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseDeviceValue (final ISpecificDevice device, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = device.getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -316,6 +316,11 @@ public class DeviceModule extends AbstractModule
         switch (command)
         {
             case TAG_PAGE:
+                if (path.isNumber ())
+                {
+                    parameterPageBank.selectPage (path.removeNumber () - 1);
+                    break;
+                }
                 final String subCommand = getSubCommand (path);
                 switch (subCommand)
                 {
@@ -324,16 +329,7 @@ public class DeviceModule extends AbstractModule
                         break;
 
                     default:
-                        try
-                        {
-                            final int index = Integer.parseInt (subCommand) - 1;
-                            parameterPageBank.selectPage (index);
-                        }
-                        catch (final NumberFormatException ex)
-                        {
-                            throw new UnknownCommandException (subCommand);
-                        }
-                        break;
+                        throw new UnknownCommandException (subCommand);
                 }
                 break;
 
@@ -373,42 +369,39 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case TAG_PARAM:
-                final String subCommand5 = getSubCommand (path);
-                try
+                if (path.isNumber ())
                 {
-                    final int paramNo = Integer.parseInt (subCommand5) - 1;
-                    parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+                    parseFXParamValue (parameterBank.getItem (path.removeNumber () - 1), path, value);
+                    break;
                 }
-                catch (final NumberFormatException ex)
+                final String subCommand5 = getSubCommand (path);
+                if (isTrigger (value))
                 {
-                    if (isTrigger (value))
+                    switch (subCommand5)
                     {
-                        switch (subCommand5)
-                        {
-                            case "+":
-                                parameterPageBank.scrollForwards ();
-                                break;
-                            case "-":
-                                parameterPageBank.scrollBackwards ();
-                                break;
-
-                            case "bank":
-                                final String subCommand6 = getSubCommand (path);
-                                if (TAG_PAGE.equals (subCommand6))
-                                {
-                                    final String subCommand7 = getSubCommand (path);
-                                    if ("+".equals (subCommand7))
-                                        parameterPageBank.selectNextPage ();
-                                    else // "-"
-                                        parameterPageBank.selectPreviousPage ();
-                                }
-                                else
-                                    throw new UnknownCommandException (subCommand6);
-                                break;
-
-                            default:
-                                throw new UnknownCommandException (subCommand5);
-                        }
+                        case "+":
+                            parameterPageBank.scrollForwards ();
+                            break;
+                        case "-":
+                            parameterPageBank.scrollBackwards ();
+                            break;
+
+                        case "bank":
+                            final String subCommand6 = getSubCommand (path);
+                            if (TAG_PAGE.equals (subCommand6))
+                            {
+                                final String subCommand7 = getSubCommand (path);
+                                if ("+".equals (subCommand7))
+                                    parameterPageBank.selectNextPage ();
+                                else // "-"
+                                    parameterPageBank.selectPreviousPage ();
+                            }
+                            else
+                                throw new UnknownCommandException (subCommand6);
+                            break;
+
+                        default:
+                            throw new UnknownCommandException (subCommand5);
                     }
                 }
                 break;
@@ -429,61 +422,29 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "type":
-                final String subCommand1 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand1) - 1;
-                    equalizerDevice.setType (bandNo, EqualizerBandType.valueOf (toString (value).toUpperCase ()));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand1);
-                }
+                final int bandNo1 = path.removeNumber () - 1;
+                equalizerDevice.setType (bandNo1, EqualizerBandType.valueOf (toString (value).toUpperCase ()));
                 return true;
 
             case "gain":
-                final String subCommand2 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand2) - 1;
-                    equalizerDevice.getGainParameter (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand2);
-                }
+                final int bandNo2 = path.removeNumber () - 1;
+                equalizerDevice.getGainParameter (bandNo2).setValue (toInteger (value));
                 return true;
 
             case "freq":
-                final String subCommand3 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand3) - 1;
-                    equalizerDevice.getFrequencyParameter (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand3);
-                }
+                final int bandNo3 = path.removeNumber () - 1;
+                equalizerDevice.getFrequencyParameter (bandNo3).setValue (toInteger (value));
                 return true;
 
             case "q":
-                final String subCommand4 = getSubCommand (path);
-                try
-                {
-                    final int bandNo = Integer.parseInt (subCommand4) - 1;
-                    equalizerDevice.getQParameter (bandNo).setValue (toInteger (value));
-                }
-                catch (final NumberFormatException ex)
-                {
-                    throw new UnknownCommandException (subCommand4);
-                }
+                final int bandNo4 = path.removeNumber () - 1;
+                equalizerDevice.getQParameter (bandNo4).setValue (toInteger (value));
                 return true;
 
             case "add":
@@ -494,71 +455,65 @@ public class DeviceModule extends AbstractModule
 
             default:
                 // Let this be handled by the normal device parser
-                path.add (0, command);
+                path.restoreFirst ();
                 return false;
         }
     }
 
 
-    private void parseLayerOrDrumpad (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseLayerOrDrumpad (final ISpecificDevice device, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final ILayerBank layerBank = device.getLayerBank ();
 
-        final String command = getSubCommand (path);
-        try
+        if (path.isNumber ())
         {
-            final int layerNo;
-            if (TAG_SELECTED.equals (command) || TAG_SELECT.equals (command))
-            {
-                final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-                layerNo = selectedLayer.isEmpty () ? -1 : selectedLayer.get ().getIndex ();
-            }
-            else
-            {
-                layerNo = Integer.parseInt (command) - 1;
-            }
-            this.parseDeviceLayerValue (device, layerNo, path, value);
+            this.parseDeviceLayerValue (device, path.removeNumber () - 1, path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String command = getSubCommand (path);
+        switch (command)
         {
-            switch (command)
-            {
-                case "parent":
-                    if (device.doesExist () && device instanceof final ICursorDevice cursorDevice)
-                    {
-                        cursorDevice.selectParent ();
-                        cursorDevice.selectChannel ();
-                    }
-                    break;
+            case TAG_SELECT, TAG_SELECTED:
+                final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
+                this.parseDeviceLayerValue (device, selectedLayer.isEmpty () ? -1 : selectedLayer.get ().getIndex (), path, value);
+                break;
 
-                case "+":
-                    layerBank.selectNextItem ();
-                    break;
+            case "parent":
+                if (device.doesExist () && device instanceof final ICursorDevice cursorDevice)
+                {
+                    cursorDevice.selectParent ();
+                    cursorDevice.selectChannel ();
+                }
+                break;
 
-                case "-":
-                    layerBank.selectPreviousItem ();
-                    break;
+            case "+":
+                layerBank.selectNextItem ();
+                break;
 
-                case TAG_PAGE:
-                    if (path.isEmpty ())
-                    {
-                        this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
-                        return;
-                    }
-                    if ("+".equals (path.get (0)))
-                        layerBank.selectNextPage ();
-                    else
-                        layerBank.selectPreviousPage ();
-                    break;
+            case "-":
+                layerBank.selectPreviousItem ();
+                break;
 
-                default:
-                    throw new UnknownCommandException (command);
-            }
+            case TAG_PAGE:
+                if (path.isEmpty ())
+                {
+                    this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
+                    return;
+                }
+                if ("+".equals (path.peek ()))
+                    layerBank.selectNextPage ();
+                else
+                    layerBank.selectPreviousPage ();
+                break;
+
+            default:
+                throw new UnknownCommandException (command);
         }
     }
 
 
-    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
+    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final OSCPath path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
     {
         final String command = getSubCommand (path);
         final ILayerBank layerBank = cursorDevice.getLayerBank ();
@@ -587,22 +542,22 @@ public class DeviceModule extends AbstractModule
             case TAG_VOLUME:
                 if (path.isEmpty ())
                     layer.setVolume (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.peek ()))
                     layer.setVolumeIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.peek ()))
                     layer.resetVolume ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.peek ()))
                     layer.touchVolume (isTrigger (value));
                 break;
 
             case "pan":
                 if (path.isEmpty ())
                     layer.setPan (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.peek ()))
                     layer.setPanIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.peek ()))
                     layer.resetPan ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.peek ()))
                     layer.touchPan (isTrigger (value));
                 break;
 
@@ -621,7 +576,7 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeNumber () - 1;
                 if (path.isEmpty ())
                     return;
 
@@ -631,9 +586,9 @@ public class DeviceModule extends AbstractModule
                 {
                     if (path.isEmpty ())
                         send.setValue (toInteger (value));
-                    else if (TAG_INDICATE.equals (path.get (0)))
+                    else if (TAG_INDICATE.equals (path.peek ()))
                         send.setIndication (isTrigger (value));
-                    else if (TAG_TOUCHED.equals (path.get (0)))
+                    else if (TAG_TOUCHED.equals (path.peek ()))
                         send.touchValue (isTrigger (value));
                 }
                 else if (TAG_ACTIVATED.equals (cmd))
@@ -655,7 +610,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -9,9 +9,11 @@ import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -48,7 +50,15 @@ public class GlobalModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.noneOf (ModelArea.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -7,8 +7,10 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -30,13 +32,13 @@ public interface IModule
      * Parse and execute an OSC command.
      *
      * @param command The first part of the command
-     * @param path The rest of the path commands
+     * @param path The rest of the path commands, numbers are already parsed
      * @param value A value parameter for the command, may be null
      * @throws IllegalParameterException Wrong or missing value parameter
      * @throws UnknownCommandException Unknown command
      * @throws MissingCommandException Missing sub-command
      */
-    void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    void execute (String command, OSCPath path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
     /**
@@ -45,4 +47,30 @@ public interface IModule
      * @param dump Ignore cache if true
      */
     void flush (boolean dump);
+
+
+    /**
+     * Get the areas of the model on which the values sent by this module depend. The module is only
+     * flushed if one of these areas received a change from the DAW, a command was executed or all
+     * values are dumped. The default depends on all areas.
+     *
+     * @return The areas, an empty set if the module does not send any values
+     */
+    default Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.allOf (ModelArea.class);
+    }
+
+
+    /**
+     * Get the first segments of the addresses of the values sent by this module. The module is
+     * only flushed if a client subscribed to one of these addresses or if there are no
+     * subscriptions at all. The default are the supported commands.
+     *
+     * @return The first segments of the addresses without slashes, e.g. "track"
+     */
+    default String [] getAddressRoots ()
+    {
+        return this.getSupportedCommands ();
+    }
 }
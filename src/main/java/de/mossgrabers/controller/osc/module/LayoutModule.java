@@ -12,10 +12,12 @@ import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMixer;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 
 /**
@@ -54,7 +56,7 @@ public class LayoutModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -152,6 +154,28 @@ public class LayoutModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.PROJECT);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getAddressRoots ()
+    {
+        return new String []
+        {
+            "layout",
+            "panel",
+            "arranger",
+            "mixer"
+        };
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
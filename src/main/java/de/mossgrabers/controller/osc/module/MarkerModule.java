@@ -10,11 +10,13 @@ import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -50,42 +52,49 @@ public class MarkerModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"marker".equals (command))
             throw new UnknownCommandException (command);
 
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isNumber ())
         {
-            final int markerNo = Integer.parseInt (subCommand) - 1;
+            final int markerNo = path.removeNumber () - 1;
             final String subCommand2 = getSubCommand (path);
             if ("launch".equals (subCommand2))
                 this.model.getMarkerBank ().getItem (markerNo).launch (true);
             else
                 throw new UnknownCommandException (subCommand2);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        final IMarkerBank markerBank = this.model.getMarkerBank ();
+        if ("bank".equals (subCommand))
         {
-            final IMarkerBank markerBank = this.model.getMarkerBank ();
-            if ("bank".equals (subCommand))
+            final String subCommand2 = getSubCommand (path);
+            switch (subCommand2)
             {
-                final String subCommand2 = getSubCommand (path);
-                switch (subCommand2)
-                {
-                    case "+":
-                        markerBank.selectNextPage ();
-                        break;
-                    case "-":
-                        markerBank.selectPreviousPage ();
-                        break;
-                    default:
-                        throw new UnknownCommandException (subCommand2);
-                }
+                case "+":
+                    markerBank.selectNextPage ();
+                    break;
+                case "-":
+                    markerBank.selectPreviousPage ();
+                    break;
+                default:
+                    throw new UnknownCommandException (subCommand2);
             }
-            else
-                throw new UnknownCommandException (subCommand);
         }
+        else
+            throw new UnknownCommandException (subCommand);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.MARKER);
     }
 
 
@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -24,7 +25,8 @@ import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -71,7 +73,7 @@ public class MidiModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("vkb_midi".equals (command))
             this.parseMidi (path, value);
@@ -80,6 +82,14 @@ public class MidiModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.TRACK, ModelArea.TRANSPORT, ModelArea.NOTE_REPEAT);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -113,39 +123,32 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseMidi (final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    private void parseMidi (final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final OSCConfiguration conf = this.surface.getConfiguration ();
 
-        final String command = getSubCommand (path);
-
-        switch (command)
+        if (!path.isNumber ())
         {
-            case "velocity":
-                final int numValue = toInteger (value);
-                conf.setAccentEnabled (numValue > 0);
-                if (numValue > 0)
-                    conf.setFixedAccentValue (numValue);
-                return;
+            final String command = getSubCommand (path);
+            switch (command)
+            {
+                case "velocity":
+                    final int numValue = toInteger (value);
+                    conf.setAccentEnabled (numValue > 0);
+                    if (numValue > 0)
+                        conf.setFixedAccentValue (numValue);
+                    return;
 
-            case "noterepeat":
-                this.parseNoteRepeat (path, value);
-                return;
+                case "noterepeat":
+                    this.parseNoteRepeat (path, value);
+                    return;
 
-            default:
-                // Fall through
-                break;
+                default:
+                    throw new UnknownCommandException (command);
+            }
         }
 
-        int midiChannel;
-        try
-        {
-            midiChannel = Math.min (Math.max (0, Integer.parseInt (command) - 1), 15);
-        }
-        catch (final NumberFormatException ex)
-        {
-            throw new UnknownCommandException (command);
-        }
+        final int midiChannel = Math.min (Math.max (0, path.removeNumber () - 1), 15);
 
         final String subCommand = getSubCommand (path);
         final IMidiInput input = this.surface.getMidiInput ();
@@ -162,6 +165,12 @@ public class MidiModule extends AbstractModule
                     return;
                 }
 
+                if (path.isNumber ())
+                {
+                    this.sendNote (conf, midiChannel, input, path.removeNumber (), toInteger (value));
+                    return;
+                }
+
                 final String n = getSubCommand (path);
                 switch (n)
                 {
@@ -182,12 +191,23 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        this.sendNote (conf, midiChannel, input, Integer.parseInt (n), toInteger (value));
-                        break;
+                        throw new UnknownCommandException (n);
                 }
                 break;
 
             case "drum":
+                if (path.isNumber ())
+                {
+                    final int note = path.removeNumber ();
+                    int numValue = toInteger (value);
+                    if (numValue > 0)
+                        numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
+                    final int data0 = this.model.getScales ().getDrumMatrix ()[note];
+                    if (data0 >= 0)
+                        input.sendRawMidiEvent (MidiConstants.CMD_NOTE_ON + midiChannel, data0, numValue);
+                    return;
+                }
+
                 final String n2 = getSubCommand (path);
                 switch (n2)
                 {
@@ -208,14 +228,7 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        final int note = Integer.parseInt (n2);
-                        int numValue = toInteger (value);
-                        if (numValue > 0)
-                            numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
-                        final int data0 = this.model.getScales ().getDrumMatrix ()[note];
-                        if (data0 >= 0)
-                            input.sendRawMidiEvent (MidiConstants.CMD_NOTE_ON + midiChannel, data0, numValue);
-                        break;
+                        throw new UnknownCommandException (n2);
                 }
                 break;
 
@@ -225,7 +238,7 @@ public class MidiModule extends AbstractModule
                     this.host.println ("Missing MIDI CC value.");
                     return;
                 }
-                final int cc = Integer.parseInt (path.removeFirst ());
+                final int cc = path.removeNumber ();
                 input.sendRawMidiEvent (MidiConstants.CMD_CC + midiChannel, cc, toInteger (value));
                 break;
 
@@ -236,7 +249,7 @@ public class MidiModule extends AbstractModule
                     input.sendRawMidiEvent (MidiConstants.CMD_CHANNEL_AFTERTOUCH + midiChannel, 0, numValue);
                     return;
                 }
-                final int note = Integer.parseInt (path.removeFirst ());
+                final int note = path.removeNumber ();
                 input.sendRawMidiEvent (MidiConstants.CMD_POLY_AFTERTOUCH + midiChannel, this.surface.getKeyTranslationTable ()[note], numValue);
                 break;
 
@@ -245,7 +258,7 @@ public class MidiModule extends AbstractModule
                 break;
 
             default:
-                throw new UnknownCommandException (command);
+                throw new UnknownCommandException (subCommand);
         }
     }
 
@@ -302,7 +315,7 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseNoteRepeat (final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseNoteRepeat (final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final INoteInput noteInput = this.surface.getMidiInput ().getDefaultNoteInput ();
         if (noteInput == null)
@@ -0,0 +1,143 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+
+/**
+ * The segments of a received OSC address which follow the command, e.g. [1, volume] for the
+ * address /track/1/volume. Segments which are numbers are already parsed when the address is
+ * resolved, therefore indices can be read without parsing text. One instance is re-used for all
+ * received messages and must not be kept after a command was executed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCPath
+{
+    /** The number of a segment which is not a number. */
+    public static final int NO_NUMBER = -1;
+
+    private String []       segments  = new String [8];
+    private int []          numbers   = new int [8];
+    private int             position;
+    private int             size;
+
+
+    /**
+     * Remove all segments.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.segments, 0, this.size, null);
+        this.position = 0;
+        this.size = 0;
+    }
+
+
+    /**
+     * Add a segment.
+     *
+     * @param segment The text of the segment
+     * @param number The parsed number of the segment, NO_NUMBER if it is not a number
+     */
+    public void add (final String segment, final int number)
+    {
+        if (this.size == this.segments.length)
+        {
+            this.segments = Arrays.copyOf (this.segments, 2 * this.size);
+            this.numbers = Arrays.copyOf (this.numbers, 2 * this.size);
+        }
+        this.segments[this.size] = segment;
+        this.numbers[this.size] = number;
+        this.size++;
+    }
+
+
+    /**
+     * Are there no more segments?
+     *
+     * @return True if all segments are removed
+     */
+    public boolean isEmpty ()
+    {
+        return this.position == this.size;
+    }
+
+
+    /**
+     * Get the next segment without removing it.
+     *
+     * @return The segment or null if there are no more segments
+     */
+    public String peek ()
+    {
+        return this.isEmpty () ? null : this.segments[this.position];
+    }
+
+
+    /**
+     * Remove the next segment.
+     *
+     * @return The removed segment
+     * @throws NoSuchElementException If there are no more segments
+     */
+    public String removeFirst ()
+    {
+        if (this.isEmpty ())
+            throw new NoSuchElementException ();
+        return this.segments[this.position++];
+    }
+
+
+    /**
+     * Is the next segment a number?
+     *
+     * @return True if there is a next segment and it is a number
+     */
+    public boolean isNumber ()
+    {
+        return !this.isEmpty () && this.numbers[this.position] != NO_NUMBER;
+    }
+
+
+    /**
+     * Remove the next segment, which must be a number.
+     *
+     * @return The number
+     * @throws MissingCommandException If there are no more segments
+     * @throws UnknownCommandException If the segment is not a number
+     */
+    public int removeNumber () throws MissingCommandException, UnknownCommandException
+    {
+        if (this.isEmpty ())
+            throw new MissingCommandException ();
+        if (this.numbers[this.position] == NO_NUMBER)
+            throw new UnknownCommandException (this.segments[this.position]);
+        return this.numbers[this.position++];
+    }
+
+
+    /**
+     * Add the last removed segment again.
+     */
+    public void restoreFirst ()
+    {
+        if (this.position > 0)
+            this.position--;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.join ("/", Arrays.copyOfRange (this.segments, this.position, this.size));
+    }
+}
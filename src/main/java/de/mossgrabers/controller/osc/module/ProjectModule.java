@@ -4,8 +4,8 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
-import java.util.Optional;
+import java.util.EnumSet;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IProject;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
@@ -27,6 +28,11 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class ProjectModule extends AbstractModule
 {
+    private final int                    nameAddress;
+    private final int                    engineAddress;
+    private final ParameterBankAddresses parameterBankAddresses;
+
+
     /**
      * Constructor.
      *
@@ -37,6 +43,10 @@ public class ProjectModule extends AbstractModule
     public ProjectModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.nameAddress = writer.getAddressKey ("/project/name");
+        this.engineAddress = writer.getAddressKey ("/project/engine");
+        this.parameterBankAddresses = new ParameterBankAddresses (writer, "/project/");
     }
 
 
@@ -53,7 +63,7 @@ public class ProjectModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"project".equals (command))
             throw new UnknownCommandException (command);
@@ -96,76 +106,68 @@ public class ProjectModule extends AbstractModule
     }
 
 
-    private void parseParamValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseParamValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isNumber ())
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
-            parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            parseFXParamValue (parameterBank.getItem (path.removeNumber () - 1), path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
         {
-            switch (subCommand)
-            {
-                case "+":
-                    if (isTrigger (value))
-                        parameterBank.selectNextItem ();
-                    break;
-
-                case "-":
-                    if (isTrigger (value))
-                        parameterBank.selectPreviousItem ();
-                    break;
-
-                case "bank":
-                    final String subCommand2 = getSubCommand (path);
-                    if (TAG_PAGE.equals (subCommand2))
-                    {
-                        final IParameterPageBank pageBank = parameterBank.getPageBank ();
-                        final String directionCommand = getSubCommand (path);
-                        if ("+".equals (directionCommand))
-                            pageBank.selectNextPage ();
-                        else // "-"
-                            pageBank.selectPreviousPage ();
-                    }
-                    else
-                        throw new UnknownCommandException (subCommand2);
-                    break;
-
-                default:
-                    throw new UnknownCommandException (subCommand);
-            }
+            case "+":
+                if (isTrigger (value))
+                    parameterBank.selectNextItem ();
+                break;
+
+            case "-":
+                if (isTrigger (value))
+                    parameterBank.selectPreviousItem ();
+                break;
+
+            case "bank":
+                final String subCommand2 = getSubCommand (path);
+                if (TAG_PAGE.equals (subCommand2))
+                {
+                    final IParameterPageBank pageBank = parameterBank.getPageBank ();
+                    final String directionCommand = getSubCommand (path);
+                    if ("+".equals (directionCommand))
+                        pageBank.selectNextPage ();
+                    else // "-"
+                        pageBank.selectPreviousPage ();
+                }
+                else
+                    throw new UnknownCommandException (subCommand2);
+                break;
+
+            default:
+                throw new UnknownCommandException (subCommand);
         }
     }
 
 
-    private void parsePageValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parsePageValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
+        if (path.isNumber ())
+        {
+            parameterPageBank.selectPage (path.removeNumber () - 1);
+            return;
+        }
+
         final String subCommand = getSubCommand (path);
         if ("select".equals (subCommand) || "selected".equals (subCommand))
-        {
             parameterPageBank.selectPage (toInteger (value) - 1);
-        }
         else
-        {
-            try
-            {
-                final int index = Integer.parseInt (subCommand) - 1;
-                parameterPageBank.selectPage (index);
-            }
-            catch (final NumberFormatException ex2)
-            {
-                throw new UnknownCommandException (subCommand);
-            }
-        }
+            throw new UnknownCommandException (subCommand);
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -194,32 +196,20 @@ public class ProjectModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    public Set<ModelArea> getDependencies ()
     {
-        this.writer.sendOSC ("/project/name", this.model.getProject ().getName (), dump);
-        this.writer.sendOSC ("/project/engine", this.model.getApplication ().isEngineActive (), dump);
+        return EnumSet.of (ModelArea.PROJECT);
+    }
 
-        final String paramAddress = "/project/param/";
-        final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
-        }
 
-        final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
-        final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
-        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/project/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
-        }
-        final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/project/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+    /** {@inheritDoc} */
+    @Override
+    public void flush (final boolean dump)
+    {
+        final IProject project = this.model.getProject ();
+        this.writer.sendOSC (this.nameAddress, project.getName (), dump);
+        this.writer.sendOSC (this.engineAddress, this.model.getApplication ().isEngineActive (), dump);
+
+        this.flushParameterBank (this.writer, this.parameterBankAddresses, project.getParameterBank (), dump);
     }
 }
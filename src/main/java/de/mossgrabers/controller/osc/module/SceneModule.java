@@ -4,8 +4,9 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
@@ -13,6 +14,7 @@ import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
@@ -51,13 +53,19 @@ public class SceneModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"scene".equals (command))
             throw new UnknownCommandException (command);
 
-        final String sceneCommand = getSubCommand (path);
         final ISceneBank sceneBank = this.model.getCurrentTrackBank ().getSceneBank ();
+        if (path.isNumber ())
+        {
+            parseSceneValue (sceneBank.getItem (path.removeNumber () - 1), path, value);
+            return;
+        }
+
+        final String sceneCommand = getSubCommand (path);
         switch (sceneCommand)
         {
             case "bank":
@@ -98,51 +106,62 @@ public class SceneModule extends AbstractModule
                 break;
 
             default:
-                final int sceneIndex = Integer.parseInt (sceneCommand);
-                final IScene scene = sceneBank.getItem (sceneIndex - 1);
-                final String sceneCommand2 = getSubCommand (path);
-                switch (sceneCommand2)
-                {
-                    case TAG_SELECT:
-                        if (isTrigger (value))
-                            scene.select ();
-                        break;
+                throw new UnknownCommandException (sceneCommand);
+        }
+    }
 
-                    case "launch":
-                        scene.launch (isTrigger (value), false);
-                        break;
 
-                    case "launchAlt":
-                        scene.launch (isTrigger (value), false);
-                        break;
+    private static void parseSceneValue (final IScene scene, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        final String sceneCommand = getSubCommand (path);
+        switch (sceneCommand)
+        {
+            case TAG_SELECT:
+                if (isTrigger (value))
+                    scene.select ();
+                break;
 
-                    case TAG_DUPLICATE:
-                        scene.duplicate ();
-                        break;
+            case "launch":
+                scene.launch (isTrigger (value), false);
+                break;
 
-                    case TAG_REMOVE:
-                        scene.remove ();
-                        break;
+            case "launchAlt":
+                scene.launch (isTrigger (value), false);
+                break;
 
-                    case TAG_NAME:
-                        if (value != null && scene.doesExist ())
-                            scene.setName (value.toString ());
-                        break;
+            case TAG_DUPLICATE:
+                scene.duplicate ();
+                break;
 
-                    case TAG_COLOR:
-                        final Optional<ColorEx> color = matchColor (toString (value));
-                        if (color.isPresent () && scene.doesExist ())
-                            scene.setColor (color.get ());
-                        break;
+            case TAG_REMOVE:
+                scene.remove ();
+                break;
 
-                    default:
-                        throw new UnknownCommandException (sceneCommand2);
-                }
+            case TAG_NAME:
+                if (value != null && scene.doesExist ())
+                    scene.setName (value.toString ());
                 break;
+
+            case TAG_COLOR:
+                final Optional<ColorEx> color = matchColor (toString (value));
+                if (color.isPresent () && scene.doesExist ())
+                    scene.setColor (color.get ());
+                break;
+
+            default:
+                throw new UnknownCommandException (sceneCommand);
         }
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.SCENE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -4,9 +4,12 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
@@ -16,6 +19,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -38,7 +42,24 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final String []       CHANNEL_TYPE_NAMES;
+
+    static
+    {
+        final ChannelType [] types = ChannelType.values ();
+        CHANNEL_TYPE_NAMES = new String [types.length];
+        for (final ChannelType type: types)
+            CHANNEL_TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase (Locale.US);
+    }
+
+    private final OSCConfiguration       configuration;
+
+    private final List<TrackAddresses>   trackAddresses = new ArrayList<> ();
+    private final TrackAddresses         masterAddresses;
+    private final TrackAddresses         selectedAddresses;
+    private final int                    toggleBankAddress;
+    private final int                    hasParentAddress;
+    private final ParameterBankAddresses parameterBankAddresses;
 
 
     /**
@@ -54,6 +75,12 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.masterAddresses = new TrackAddresses (writer, "/master/");
+        this.selectedAddresses = new TrackAddresses (writer, "/track/selected/");
+        this.toggleBankAddress = writer.getAddressKey ("/track/toggleBank");
+        this.hasParentAddress = writer.getAddressKey ("/track/hasParent");
+        this.parameterBankAddresses = new ParameterBankAddresses (writer, "/track/");
     }
 
 
@@ -71,21 +98,15 @@ public class TrackModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
             case "track":
-                final String subCommand = getSubCommand (path);
-                try
-                {
-                    final int trackNo = Integer.parseInt (subCommand) - 1;
-                    this.parseTrackValue (this.model.getCurrentTrackBank ().getItem (trackNo), path, value);
-                }
-                catch (final NumberFormatException ex)
-                {
-                    this.parseTrackCommands (subCommand, path, value);
-                }
+                if (path.isNumber ())
+                    this.parseTrackValue (this.model.getCurrentTrackBank ().getItem (path.removeNumber () - 1), path, value);
+                else
+                    this.parseTrackCommands (getSubCommand (path), path, value);
                 break;
 
             case "master":
@@ -98,42 +119,32 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        return EnumSet.of (ModelArea.TRACK, ModelArea.MASTER);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
-        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
-
-        // Flush track parameters
-        final String paramAddress = "/track/param/";
-        final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            final TrackAddresses addresses = getAddresses (this.trackAddresses, i, index -> new TrackAddresses (this.writer, "/track/" + (index + 1) + "/"));
+            this.flushTrack (this.writer, addresses, trackBank.getItem (i), dump);
         }
+        this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), dump);
+        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
+        this.flushTrack (this.writer, this.selectedAddresses, cursorTrack, dump);
+        this.writer.sendOSC (this.toggleBankAddress, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (this.hasParentAddress, trackBank.hasParent (), dump);
 
-        final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
-        final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
-        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/track/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
-            this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
-        }
-        final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/track/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        // Flush track parameters
+        this.flushParameterBank (this.writer, this.parameterBankAddresses, cursorTrack.getParameterBank (), dump);
     }
 
 
@@ -141,72 +152,72 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses of the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (addresses.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (addresses.type, type == null ? null : CHANNEL_TYPE_NAMES[type.ordinal ()], dump);
+        writer.sendOSC (addresses.activated, track.isActivated (), dump);
+        writer.sendOSC (addresses.selected, track.isSelected (), dump);
+        writer.sendOSC (addresses.isGroup, track.isGroup (), dump);
+        writer.sendOSC (addresses.name, track.getName (), dump);
+        writer.sendOSC (addresses.volumeStr, track.getVolumeStr (), dump);
+        writer.sendOSC (addresses.volume, track.getVolume (), dump);
+        writer.sendOSC (addresses.panStr, track.getPanStr (), dump);
+        writer.sendOSC (addresses.pan, track.getPan (), dump);
+        writer.sendOSC (addresses.mute, track.isMute (), dump);
+        writer.sendOSC (addresses.solo, track.isSolo (), dump);
+        writer.sendOSC (addresses.recarm, track.isRecArm (), dump);
+        writer.sendOSC (addresses.monitor, track.isMonitor (), dump);
+        writer.sendOSC (addresses.autoMonitor, track.isAutoMonitor (), dump);
+        writer.sendOSC (addresses.canHoldNotes, track.canHoldNotes (), dump);
+        writer.sendOSC (addresses.canHoldAudioData, track.canHoldAudioData (), dump);
+        writer.sendOSC (addresses.position, track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (addresses.pinned, cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, addresses.getSend (i), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final ClipAddresses clipAddresses = addresses.getClip (i);
+            writer.sendOSC (clipAddresses.name, slot.getName (), dump);
+            writer.sendOSC (clipAddresses.isSelected, slot.isSelected (), dump);
+            writer.sendOSC (clipAddresses.hasContent, slot.hasContent (), dump);
+            writer.sendOSC (clipAddresses.isPlaying, slot.isPlaying (), dump);
+            writer.sendOSC (clipAddresses.isRecording, slot.isRecording (), dump);
+            writer.sendOSC (clipAddresses.isPlayingQueued, slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddresses.isRecordingQueued, slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddresses.isStopQueued, slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (addresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
+        writer.sendOSC (addresses.recordQuantization, track.getRecordQuantizationGrid ().getValue (), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (addresses.vu, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
-    private void parseTrackCommands (final String command, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseTrackCommands (final String command, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         switch (command)
@@ -225,7 +236,7 @@ public class TrackModule extends AbstractModule
                             tb.getItem (i).setPanIndication (isTrue);
                         break;
                     case "send":
-                        final int sendIndex = Integer.parseInt (path.get (0)) - 1;
+                        final int sendIndex = path.removeNumber () - 1;
                         for (int i = 0; i < tb.getPageSize (); i++)
                             tb.getItem (i).getSendBank ().getItem (sendIndex).setIndication (isTrue);
                         break;
@@ -351,7 +362,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
+    private void parseTrackValue (final ITrack track, final OSCPath path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -400,22 +411,22 @@ public class TrackModule extends AbstractModule
             case TAG_VOLUME:
                 if (path.isEmpty ())
                     track.setVolume (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.peek ()))
                     track.setVolumeIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.peek ()))
                     track.resetVolume ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.peek ()))
                     track.touchVolume (isTrigger (value));
                 break;
 
             case "pan":
                 if (path.isEmpty ())
                     track.setPan (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.peek ()))
                     track.setPanIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.peek ()))
                     track.resetPan ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.peek ()))
                     track.touchPan (isTrigger (value));
                 break;
 
@@ -455,7 +466,7 @@ public class TrackModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeNumber () - 1;
                 parseSendValue (track, sendNo, path, value);
                 break;
 
@@ -498,13 +509,11 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseClipValue (final ITrack track, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseClipValue (final ITrack track, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
-        final String command = getSubCommand (path);
-
-        try
+        if (path.isNumber ())
         {
-            final int clipNo = Integer.parseInt (command) - 1;
+            final int clipNo = path.removeNumber () - 1;
             final String clipCommand = getSubCommand (path);
             final ISlot slot = track.getSlotBank ().getItem (clipNo);
             switch (clipCommand)
@@ -541,25 +550,25 @@ public class TrackModule extends AbstractModule
                 default:
                     throw new UnknownCommandException (clipCommand);
             }
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String command = getSubCommand (path);
+        switch (command)
         {
-            switch (command)
-            {
-                case "stop":
-                    track.stop (false);
-                    break;
-                case "returntoarrangement":
-                    track.returnToArrangement ();
-                    break;
-                default:
-                    throw new UnknownCommandException (command);
-            }
+            case "stop":
+                track.stop (false);
+                break;
+            case "returntoarrangement":
+                track.returnToArrangement ();
+                break;
+            default:
+                throw new UnknownCommandException (command);
         }
     }
 
 
-    private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseSendValue (final ITrack track, final int sendIndex, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ISend send = track.getSendBank ().getItem (sendIndex);
         if (send == null)
@@ -575,11 +584,11 @@ public class TrackModule extends AbstractModule
             case TAG_VOLUME:
                 if (path.isEmpty ())
                     send.setValue (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
+                else if (TAG_INDICATE.equals (path.peek ()))
                     send.setIndication (isTrigger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.peek ()))
                     send.resetValue ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
+                else if (TAG_TOUCHED.equals (path.peek ()))
                     send.touchValue (isTrigger (value));
                 break;
             default:
@@ -588,76 +597,68 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseParamValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseParamValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isNumber ())
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
-            parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            parseFXParamValue (parameterBank.getItem (path.removeNumber () - 1), path, value);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
         {
-            switch (subCommand)
-            {
-                case "+":
-                    if (isTrigger (value))
-                        parameterBank.selectNextItem ();
-                    break;
+            case "+":
+                if (isTrigger (value))
+                    parameterBank.selectNextItem ();
+                break;
 
-                case "-":
-                    if (isTrigger (value))
-                        parameterBank.selectPreviousItem ();
-                    break;
+            case "-":
+                if (isTrigger (value))
+                    parameterBank.selectPreviousItem ();
+                break;
 
-                case "bank":
-                    final String subCommand2 = getSubCommand (path);
-                    if (TAG_PAGE.equals (subCommand2))
-                    {
-                        final IParameterPageBank pageBank = parameterBank.getPageBank ();
-                        final String directionCommand = getSubCommand (path);
-                        if ("+".equals (directionCommand))
-                            pageBank.selectNextPage ();
-                        else // "-"
-                            pageBank.selectPreviousPage ();
-                    }
-                    else
-                        throw new UnknownCommandException (subCommand2);
-                    break;
+            case "bank":
+                final String subCommand2 = getSubCommand (path);
+                if (TAG_PAGE.equals (subCommand2))
+                {
+                    final IParameterPageBank pageBank = parameterBank.getPageBank ();
+                    final String directionCommand = getSubCommand (path);
+                    if ("+".equals (directionCommand))
+                        pageBank.selectNextPage ();
+                    else // "-"
+                        pageBank.selectPreviousPage ();
+                }
+                else
+                    throw new UnknownCommandException (subCommand2);
+                break;
 
-                default:
-                    throw new UnknownCommandException (subCommand);
-            }
+            default:
+                throw new UnknownCommandException (subCommand);
         }
     }
 
 
-    private void parsePageValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parsePageValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
+        if (path.isNumber ())
+        {
+            parameterPageBank.selectPage (path.removeNumber () - 1);
+            return;
+        }
+
         final String subCommand = getSubCommand (path);
         if ("select".equals (subCommand) || "selected".equals (subCommand))
-        {
             parameterPageBank.selectPage (toInteger (value) - 1);
-        }
         else
-        {
-            try
-            {
-                final int index = Integer.parseInt (subCommand) - 1;
-                parameterPageBank.selectPage (index);
-            }
-            catch (final NumberFormatException ex2)
-            {
-                throw new UnknownCommandException (subCommand);
-            }
-        }
+            throw new UnknownCommandException (subCommand);
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -682,4 +683,114 @@ public class TrackModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /** The address keys of all values of a track. */
+    private static class TrackAddresses
+    {
+        private final IOpenSoundControlWriter  writer;
+        private final String                   trackAddress;
+        private final List<ParameterAddresses> sends = new ArrayList<> ();
+        private final List<ClipAddresses>      clips = new ArrayList<> ();
+
+        final int                              exists;
+        final int                              type;
+        final int                              activated;
+        final int                              selected;
+        final int                              isGroup;
+        final int                              name;
+        final int                              volumeStr;
+        final int                              volume;
+        final int                              panStr;
+        final int                              pan;
+        final int                              mute;
+        final int                              solo;
+        final int                              recarm;
+        final int                              monitor;
+        final int                              autoMonitor;
+        final int                              canHoldNotes;
+        final int                              canHoldAudioData;
+        final int                              position;
+        final int                              pinned;
+        final int                              color;
+        final int                              crossfadeModeA;
+        final int                              crossfadeModeB;
+        final int                              crossfadeModeAB;
+        final int                              recordQuantization;
+        final int                              vu;
+
+
+        TrackAddresses (final IOpenSoundControlWriter writer, final String trackAddress)
+        {
+            this.writer = writer;
+            this.trackAddress = trackAddress;
+
+            this.exists = writer.getAddressKey (trackAddress + TAG_EXISTS);
+            this.type = writer.getAddressKey (trackAddress + "type");
+            this.activated = writer.getAddressKey (trackAddress + TAG_ACTIVATED);
+            this.selected = writer.getAddressKey (trackAddress + TAG_SELECTED);
+            this.isGroup = writer.getAddressKey (trackAddress + "isGroup");
+            this.name = writer.getAddressKey (trackAddress + TAG_NAME);
+            this.volumeStr = writer.getAddressKey (trackAddress + "volumeStr");
+            this.volume = writer.getAddressKey (trackAddress + TAG_VOLUME);
+            this.panStr = writer.getAddressKey (trackAddress + "panStr");
+            this.pan = writer.getAddressKey (trackAddress + "pan");
+            this.mute = writer.getAddressKey (trackAddress + "mute");
+            this.solo = writer.getAddressKey (trackAddress + "solo");
+            this.recarm = writer.getAddressKey (trackAddress + "recarm");
+            this.monitor = writer.getAddressKey (trackAddress + "monitor");
+            this.autoMonitor = writer.getAddressKey (trackAddress + "autoMonitor");
+            this.canHoldNotes = writer.getAddressKey (trackAddress + "canHoldNotes");
+            this.canHoldAudioData = writer.getAddressKey (trackAddress + "canHoldAudioData");
+            this.position = writer.getAddressKey (trackAddress + "position");
+            this.pinned = writer.getAddressKey (trackAddress + "pinned");
+            this.color = writer.getAddressKey (trackAddress + TAG_COLOR);
+            this.crossfadeModeA = writer.getAddressKey (trackAddress + "crossfadeMode/A");
+            this.crossfadeModeB = writer.getAddressKey (trackAddress + "crossfadeMode/B");
+            this.crossfadeModeAB = writer.getAddressKey (trackAddress + "crossfadeMode/AB");
+            this.recordQuantization = writer.getAddressKey (trackAddress + "recordQuantization");
+            this.vu = writer.getAddressKey (trackAddress + "vu");
+        }
+
+
+        ParameterAddresses getSend (final int index)
+        {
+            return getAddresses (this.sends, index, i -> new ParameterAddresses (this.writer, this.trackAddress + "send/" + (i + 1) + "/"));
+        }
+
+
+        ClipAddresses getClip (final int index)
+        {
+            return getAddresses (this.clips, index, i -> new ClipAddresses (this.writer, this.trackAddress + "clip/" + (i + 1) + "/"));
+        }
+    }
+
+
+    /** The address keys of all values of a clip. */
+    private static class ClipAddresses
+    {
+        final int name;
+        final int isSelected;
+        final int hasContent;
+        final int isPlaying;
+        final int isRecording;
+        final int isPlayingQueued;
+        final int isRecordingQueued;
+        final int isStopQueued;
+        final int color;
+
+
+        ClipAddresses (final IOpenSoundControlWriter writer, final String clipAddress)
+        {
+            this.name = writer.getAddressKey (clipAddress + TAG_NAME);
+            this.isSelected = writer.getAddressKey (clipAddress + "isSelected");
+            this.hasContent = writer.getAddressKey (clipAddress + "hasContent");
+            this.isPlaying = writer.getAddressKey (clipAddress + "isPlaying");
+            this.isRecording = writer.getAddressKey (clipAddress + "isRecording");
+            this.isPlayingQueued = writer.getAddressKey (clipAddress + "isPlayingQueued");
+            this.isRecordingQueued = writer.getAddressKey (clipAddress + "isRecordingQueued");
+            this.isStopQueued = writer.getAddressKey (clipAddress + "isStopQueued");
+            this.color = writer.getAddressKey (clipAddress + TAG_COLOR);
+        }
+    }
 }
@@ -4,8 +4,10 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.OSCControlSurface;
@@ -19,6 +21,7 @@ import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.clip.IClip;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.LaunchQuantization;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -85,7 +88,7 @@ public class TransportModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final boolean isTrigger = isTrigger (value);
 
@@ -119,7 +122,7 @@ public class TransportModule extends AbstractModule
                 break;
 
             case "overdub":
-                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.get (0)))
+                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.peek ()))
                     this.transport.toggleLauncherOverdub ();
                 else
                     this.transport.toggleOverdub ();
@@ -215,7 +218,7 @@ public class TransportModule extends AbstractModule
                     this.transport.changePosition (numValue >= 0, Math.abs (numValue) <= 1);
                     break;
                 }
-                final String positionCommand = path.get (0);
+                final String positionCommand = path.peek ();
                 switch (positionCommand)
                 {
                     case "+":
@@ -241,12 +244,12 @@ public class TransportModule extends AbstractModule
             case "crossfade":
                 if (path.isEmpty ())
                     this.transport.setCrossfade (toInteger (value));
-                else if (TAG_RESET.equals (path.get (0)))
+                else if (TAG_RESET.equals (path.peek ()))
                     this.transport.getCrossfadeParameter ().resetValue ();
                 break;
 
             case "autowrite":
-                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.get (0)))
+                if (!path.isEmpty () && TAG_LAUNCHER.equals (path.peek ()))
                     this.transport.toggleWriteClipLauncherAutomation ();
                 else
                     this.transport.toggleWriteArrangerAutomation ();
@@ -262,7 +265,7 @@ public class TransportModule extends AbstractModule
                 break;
 
             case TAG_LAUNCHER:
-                final String launcherCommand = path.get (0);
+                final String launcherCommand = getSubCommand (path);
                 switch (launcherCommand)
                 {
                     case "postRecordingAction":
@@ -286,6 +289,28 @@ public class TransportModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getDependencies ()
+    {
+        // The crossfader is a parameter of the master track
+        return EnumSet.of (ModelArea.TRANSPORT, ModelArea.MASTER);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getAddressRoots ()
+    {
+        final String [] commands = this.getSupportedCommands ();
+        final String [] roots = Arrays.copyOf (commands, commands.length + 3);
+        roots[commands.length] = "beat";
+        roots[commands.length + 1] = "preroll";
+        roots[commands.length + 2] = "launcher";
+        return roots;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -0,0 +1,366 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.module.IModule;
+import de.mossgrabers.controller.osc.module.OSCPath;
+
+
+/**
+ * A trie of the segments of OSC addresses. The first level contains the commands supported by the
+ * modules, which are the handlers of the addresses. Resolving an address returns the node of the
+ * command and fills the following segments into a path, in which numbers are already parsed.
+ * <p>
+ * Deeper text segments are learned from addresses which were executed successfully, all numbers
+ * share one wildcard node per level. Known segments re-use the stored texts, therefore a known
+ * address does not require splitting or creating new strings. The children of a node are found by
+ * hashing the characters of the segment in the address. The number of learned children per node
+ * and in total is limited, further segments are still resolved but not stored.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCAddressTrie
+{
+    private static final int       MAX_CHILDREN      = 64;
+    private static final int       MAX_LEARNED_NODES = 2048;
+    private static final int       NUMBER_STRINGS    = 1024;
+    private static final String [] NUMBERS           = new String [NUMBER_STRINGS];
+
+    static
+    {
+        for (int i = 0; i < NUMBER_STRINGS; i++)
+            NUMBERS[i] = Integer.toString (i);
+    }
+
+    private final Node             root              = new Node ("", null);
+    private int                    learnedNodes;
+    private boolean                hasUnknownSegments;
+
+
+    /**
+     * Register the commands of a module.
+     *
+     * @param module The module
+     */
+    public void register (final IModule module)
+    {
+        for (final String command: module.getSupportedCommands ())
+        {
+            final Node node = this.root.findChild (command, 0, command.length ());
+            if (node == null)
+                this.root.addChild (new Node (command, module));
+            else
+                node.module = module;
+        }
+    }
+
+
+    /**
+     * Resolve an OSC address.
+     *
+     * @param address The OSC address, e.g. /track/1/volume
+     * @param path Is cleared and filled with the segments of the address following the command,
+     *            e.g. [1, volume]
+     * @return The node of the command (first segment) or null if the command is not supported by a
+     *         module, in which case the path is not filled
+     */
+    public Node resolve (final String address, final OSCPath path)
+    {
+        path.clear ();
+        this.hasUnknownSegments = false;
+
+        final int length = address.length ();
+        int start = length > 0 && address.charAt (0) == '/' ? 1 : 0;
+        int end = address.indexOf ('/', start);
+        if (end < 0)
+            end = length;
+        final Node commandNode = this.root.findChild (address, start, end);
+        if (commandNode == null)
+            return null;
+
+        Node node = commandNode;
+        int emptySegments = 0;
+        start = end + 1;
+        while (start <= length)
+        {
+            end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            // Empty segments are only kept if they are not at the end
+            if (start == end)
+                emptySegments++;
+            else
+            {
+                for (; emptySegments > 0; emptySegments--)
+                    path.add ("", OSCPath.NO_NUMBER);
+                node = this.resolveSegment (node, address, start, end, path);
+            }
+            start = end + 1;
+        }
+        return commandNode;
+    }
+
+
+    /**
+     * Check if the last resolved address contained segments which are not stored in the trie.
+     *
+     * @return True if there were unknown segments
+     */
+    public boolean hasUnknownSegments ()
+    {
+        return this.hasUnknownSegments;
+    }
+
+
+    /**
+     * Store all segments of an address, which were executed successfully. Segments are not stored
+     * if the limits are reached.
+     *
+     * @param address The OSC address
+     */
+    public void learn (final String address)
+    {
+        final int length = address.length ();
+        int start = length > 0 && address.charAt (0) == '/' ? 1 : 0;
+        int end = address.indexOf ('/', start);
+        if (end < 0)
+            end = length;
+        Node node = this.root.findChild (address, start, end);
+
+        start = end + 1;
+        while (node != null && start < length)
+        {
+            end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            if (start < end)
+                node = this.learnSegment (node, address, start, end);
+            start = end + 1;
+        }
+    }
+
+
+    /**
+     * Get the text of the command of an address, e.g. for error messages.
+     *
+     * @param address The OSC address
+     * @return The first segment of the address
+     */
+    public static String getCommand (final String address)
+    {
+        final int start = address.startsWith ("/") ? 1 : 0;
+        final int end = address.indexOf ('/', start);
+        return address.substring (start, end < 0 ? address.length () : end);
+    }
+
+
+    /**
+     * Add a segment to the path.
+     *
+     * @param node The node of the previous segment, might be null if it is not stored
+     * @param address The OSC address
+     * @param start The start of the segment in the address (inclusive)
+     * @param end The end of the segment in the address (exclusive)
+     * @param path Where to add the segment
+     * @return The node of the segment, null if it is not stored
+     */
+    private Node resolveSegment (final Node node, final String address, final int start, final int end, final OSCPath path)
+    {
+        final int number = parseNumber (address, start, end);
+        if (number != OSCPath.NO_NUMBER)
+        {
+            final boolean isCanonical = number < NUMBER_STRINGS && (end - start == 1 || address.charAt (start) != '0');
+            path.add (isCanonical ? NUMBERS[number] : address.substring (start, end), number);
+            if (node == null || node.numberChild == null)
+            {
+                this.hasUnknownSegments = true;
+                return null;
+            }
+            return node.numberChild;
+        }
+
+        final Node child = node == null ? null : node.findChild (address, start, end);
+        if (child == null)
+        {
+            this.hasUnknownSegments = true;
+            path.add (address.substring (start, end), OSCPath.NO_NUMBER);
+            return null;
+        }
+        path.add (child.segment, OSCPath.NO_NUMBER);
+        return child;
+    }
+
+
+    /**
+     * Get or create the node of a segment.
+     *
+     * @param node The node of the previous segment
+     * @param address The OSC address
+     * @param start The start of the segment in the address (inclusive)
+     * @param end The end of the segment in the address (exclusive)
+     * @return The node of the segment, null if it is not stored and the limits are reached
+     */
+    private Node learnSegment (final Node node, final String address, final int start, final int end)
+    {
+        final boolean isNumber = parseNumber (address, start, end) != OSCPath.NO_NUMBER;
+        final Node child = isNumber ? node.numberChild : node.findChild (address, start, end);
+        if (child != null)
+            return child;
+        if (this.learnedNodes >= MAX_LEARNED_NODES || !isNumber && node.size >= MAX_CHILDREN)
+            return null;
+
+        this.learnedNodes++;
+        if (isNumber)
+        {
+            node.numberChild = new Node ("#", null);
+            return node.numberChild;
+        }
+        final Node newChild = new Node (address.substring (start, end), null);
+        node.addChild (newChild);
+        return newChild;
+    }
+
+
+    /**
+     * Parse a segment as a positive number.
+     *
+     * @param address The OSC address
+     * @param start The start of the segment in the address (inclusive)
+     * @param end The end of the segment in the address (exclusive)
+     * @return The number or NO_NUMBER if the segment is not a number
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        final int length = end - start;
+        if (length == 0 || length > 9)
+            return OSCPath.NO_NUMBER;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return OSCPath.NO_NUMBER;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * Calculates the same hash as String.hashCode for a part of the address.
+     *
+     * @param address The OSC address
+     * @param start The start of the segment in the address (inclusive)
+     * @param end The end of the segment in the address (exclusive)
+     * @return The hash
+     */
+    private static int hash (final String address, final int start, final int end)
+    {
+        int hash = 0;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + address.charAt (i);
+        return hash;
+    }
+
+
+    /** A node of the trie. */
+    public static class Node
+    {
+        private static final Node [] NO_CHILDREN = new Node [0];
+
+        private final String         segment;
+        private final int            hash;
+        private IModule              module;
+        private Node                 numberChild;
+
+        // Open addressing hash table of the children
+        private Node []              children    = NO_CHILDREN;
+        private int                  size;
+
+
+        Node (final String segment, final IModule module)
+        {
+            this.segment = segment;
+            this.hash = segment.hashCode ();
+            this.module = module;
+        }
+
+
+        /**
+         * Get the text of the segment.
+         *
+         * @return The text
+         */
+        public String getSegment ()
+        {
+            return this.segment;
+        }
+
+
+        /**
+         * Get the module which handles the command, only set on the first level.
+         *
+         * @return The module
+         */
+        public IModule getModule ()
+        {
+            return this.module;
+        }
+
+
+        Node findChild (final String address, final int start, final int end)
+        {
+            if (this.size == 0)
+                return null;
+
+            final int length = end - start;
+            final int hashCode = hash (address, start, end);
+            final int mask = this.children.length - 1;
+            for (int i = spread (hashCode) & mask;; i = i + 1 & mask)
+            {
+                final Node child = this.children[i];
+                if (child == null)
+                    return null;
+                if (child.hash == hashCode && child.segment.length () == length && address.regionMatches (start, child.segment, 0, length))
+                    return child;
+            }
+        }
+
+
+        void addChild (final Node child)
+        {
+            // Keep the table at most half full
+            if (2 * (this.size + 1) > this.children.length)
+            {
+                final Node [] oldChildren = this.children;
+                this.children = new Node [Math.max (4, 2 * oldChildren.length)];
+                for (final Node oldChild: oldChildren)
+                {
+                    if (oldChild != null)
+                        this.insert (oldChild);
+                }
+            }
+            this.insert (child);
+            this.size++;
+        }
+
+
+        private void insert (final Node child)
+        {
+            final int mask = this.children.length - 1;
+            int i = spread (child.hash) & mask;
+            while (this.children[i] != null)
+                i = i + 1 & mask;
+            this.children[i] = child;
+        }
+
+
+        private static int spread (final int hash)
+        {
+            return hash ^ hash >>> 16;
+        }
+    }
+}
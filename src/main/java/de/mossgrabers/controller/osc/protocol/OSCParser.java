@@ -9,21 +9,15 @@ import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.controller.osc.module.IModule;
+import de.mossgrabers.controller.osc.module.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
-import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-
 
 /**
  * Parser for OSC messages.
@@ -33,7 +27,9 @@ import java.util.Map;
 public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final OSCWriter            oscWriter;
+    private final OSCAddressTrie       addresses = new OSCAddressTrie ();
+    private final OSCPath              path      = new OSCPath ();
 
 
     /**
@@ -47,11 +43,12 @@ public class OSCParser extends AbstractOpenSoundControlParser
      * @param midiInput The MIDI input
      * @param keyManager The key manager
      */
-    public OSCParser (final IHost host, final OSCControlSurface surface, final IModel model, final IOpenSoundControlConfiguration configuration, final IOpenSoundControlWriter writer, final IMidiInput midiInput, final KeyManager keyManager)
+    public OSCParser (final IHost host, final OSCControlSurface surface, final IModel model, final IOpenSoundControlConfiguration configuration, final OSCWriter writer, final IMidiInput midiInput, final KeyManager keyManager)
     {
         super (host, model, midiInput, configuration, writer);
 
         this.surface = surface;
+        this.oscWriter = writer;
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
@@ -64,27 +61,43 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
+        final String address = message.getAddress ();
+        final OSCAddressTrie.Node commandNode = this.addresses.resolve (address, this.path);
 
         final Object [] values = message.getValues ();
         try
         {
-            final IModule module = this.modules.get (command);
-            if (module == null)
+            if (commandNode == null)
+            {
+                final String command = OSCAddressTrie.getCommand (address);
+                if ("refresh".equals (command))
+                {
+                    this.writer.flush (true);
+                    return;
+                }
+                if ("subscribe".equals (command) || "unsubscribe".equals (command))
+                {
+                    this.handleSubscription ("subscribe".equals (command), values);
+                    return;
+                }
+                if (command.isEmpty ())
+                    return;
                 throw new UnknownCommandException (command);
+            }
+
+            final String command = commandNode.getSegment ();
+            final IModule module = commandNode.getModule ();
             if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
+                module.execute (command, this.path, values);
             else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+                module.execute (command, this.path, values == null || values.length == 0 ? null : values[0]);
+
+            // The command might have changed local states, which are not notified by the DAW
+            this.oscWriter.markDirty (module);
+
+            // Only store the segments of valid addresses
+            if (this.addresses.hasUnknownSegments ())
+                this.addresses.learn (address);
         }
         catch (final IllegalParameterException ex)
         {
@@ -102,19 +115,33 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
 
     /**
-     * Parses the OSC message into separate parts.
+     * Subscribe or unsubscribe address prefixes. Unsubscribe without a prefix removes all
+     * subscriptions. All subscribed values are sent again, since the client might not know them
+     * yet.
      *
-     * @param message The message
-     * @return The split parts
+     * @param isSubscribe True to subscribe, false to unsubscribe
+     * @param values The address prefixes
      */
-    private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
+    private void handleSubscription (final boolean isSubscribe, final Object [] values)
     {
-        final LinkedList<String> oscParts = new LinkedList<> ();
-        Collections.addAll (oscParts, message.getAddress ().split ("/"));
-
-        // Remove first empty element
-        oscParts.removeFirst ();
-        return oscParts;
+        if (values == null || values.length == 0)
+        {
+            if (isSubscribe)
+                this.oscWriter.subscribe ("/");
+            else
+                this.oscWriter.unsubscribeAll ();
+        }
+        else
+        {
+            for (final Object value: values)
+            {
+                if (isSubscribe)
+                    this.oscWriter.subscribe (value.toString ());
+                else
+                    this.oscWriter.unsubscribe (value.toString ());
+            }
+        }
+        this.oscWriter.flush (true);
     }
 
 
@@ -125,6 +152,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
      */
     public void registerModule (final IModule module)
     {
-        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        this.addresses.register (module);
     }
 }
\ No newline at end of file
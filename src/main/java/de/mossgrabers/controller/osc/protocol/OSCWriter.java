@@ -8,23 +8,29 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
- * Writes the changed DAW status as OSC messages.
+ * Writes the changed DAW status as OSC messages. A module is only flushed if an area of the model
+ * on which it depends received a change from the DAW or a command was executed. If clients
+ * subscribed to address prefixes, only the modules and values matching these prefixes are sent.
  *
  * @author Jürgen Moßgraber
  */
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
     private static final Set<String> HEARTBEAT_MESSAGES = new HashSet<> (3);
+    private static final int         ALL_MODEL_AREAS    = (1 << ModelArea.values ().length) - 1;
 
     static
     {
@@ -33,7 +39,10 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         HEARTBEAT_MESSAGES.add ("/beat/str");
     }
 
-    private final List<IModule> modules = new ArrayList<> ();
+    private final List<IModule> modules            = new ArrayList<> ();
+    private int []              moduleDependencies = new int [0];
+    private String [] []        moduleRoots        = new String [0] [];
+    private final AtomicInteger dirtyModelAreas    = new AtomicInteger (ALL_MODEL_AREAS);
 
 
     /**
@@ -47,6 +56,8 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
     {
         super (host, model, oscClient, configuration);
+
+        model.addModelChangeObserver (this::markDirty);
     }
 
 
@@ -56,11 +67,82 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         if (!this.isConnected ())
             return;
-        this.modules.forEach (module -> module.flush (dump));
+
+        // A dump sends all values, otherwise only flush the modules which depend on a part of the
+        // model, which has changed
+        final int dirtyAreas = this.dirtyModelAreas.getAndSet (0) | (dump ? ALL_MODEL_AREAS : 0);
+        if (dirtyAreas != 0)
+        {
+            for (int i = 0; i < this.modules.size (); i++)
+            {
+                if ((this.moduleDependencies[i] & dirtyAreas) != 0 && this.isModuleSubscribed (i))
+                    this.modules.get (i).flush (dump);
+            }
+        }
         this.flush ("/update");
     }
 
 
+    /**
+     * Mark all modules as dirty, which depend on the given area of the model. They are flushed on
+     * the next call to flush.
+     *
+     * @param area The area of the model which has changed
+     */
+    public void markDirty (final ModelArea area)
+    {
+        this.dirtyModelAreas.getAndUpdate (areas -> areas | 1 << area.ordinal ());
+    }
+
+
+    /**
+     * Mark all modules as dirty, which depend on one of the areas of the model on which the given
+     * module depends, e.g. after the module executed a command. They are flushed on the next call
+     * to flush.
+     *
+     * @param module The module
+     */
+    public void markDirty (final IModule module)
+    {
+        final int index = this.modules.indexOf (module);
+        if (index < 0)
+        {
+            this.markAllDirty ();
+            return;
+        }
+        final int dependencies = this.moduleDependencies[index];
+        this.dirtyModelAreas.getAndUpdate (areas -> areas | dependencies);
+    }
+
+
+    /**
+     * Mark all modules as dirty. They are flushed on the next call to flush.
+     */
+    public void markAllDirty ()
+    {
+        this.dirtyModelAreas.set (ALL_MODEL_AREAS);
+    }
+
+
+    /**
+     * Check if a client subscribed to at least one of the addresses of a module.
+     *
+     * @param index The index of the module
+     * @return True if subscribed or if there are no subscriptions at all
+     */
+    private boolean isModuleSubscribed (final int index)
+    {
+        if (!this.hasSubscriptions ())
+            return true;
+        for (final String root: this.moduleRoots[index])
+        {
+            if (this.isSubscribedToPrefix (root))
+                return true;
+        }
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected boolean isHeartbeatMessage (final String address)
@@ -77,5 +159,17 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     public void registerModule (final IModule module)
     {
         this.modules.add (module);
+
+        int dependencies = 0;
+        for (final ModelArea area: module.getDependencies ())
+            dependencies |= 1 << area.ordinal ();
+        this.moduleDependencies = Arrays.copyOf (this.moduleDependencies, this.modules.size ());
+        this.moduleDependencies[this.modules.size () - 1] = dependencies;
+
+        final String [] roots = module.getAddressRoots ().clone ();
+        for (int i = 0; i < roots.length; i++)
+            roots[i] = "/" + roots[i];
+        this.moduleRoots = Arrays.copyOf (this.moduleRoots, this.modules.size ());
+        this.moduleRoots[this.modules.size () - 1] = roots;
     }
 }
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.yaeltex.turn.controller;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.color.PaletteMatcher;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IHost;
@@ -160,6 +161,8 @@ public class YaeltexTurnColorManager extends ColorManager
         ColorEx.fromRGB (0xf0, 0xf0, 0xf0)
     };
 
+    private static final PaletteMatcher       PALETTE_MATCHER        = new PaletteMatcher (COLOR_TABLE);
+
     public static final int                   BLACK                  = 0;
     public static final int                   WHITE                  = 127;
     public static final int                   LIGHT_GRAY             = getIndexFor (ColorEx.LIGHT_GRAY);
@@ -348,7 +351,7 @@ public class YaeltexTurnColorManager extends ColorManager
      */
     public static final int getIndexFor (final ColorEx color)
     {
-        return ColorEx.getClosestColorIndex (color, COLOR_TABLE);
+        return PALETTE_MATCHER.getClosestColorIndex (color);
     }
 
 
@@ -147,6 +147,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      COLOR_TRACK_STATES              = Integer.valueOf (51);
     /** The speed of the encoder knob can be slowed down. */
     public static final Integer      ENCODER_KNOB_SLOW_DOWN          = Integer.valueOf (52);
+    /** Combine the values of continuous controls received between two flushes. */
+    public static final Integer      INPUT_COALESCING                = Integer.valueOf (53);
 
     // Implementation IDs start at 100
     protected static final int       NEXT_SETTING_ID                 = 100;
@@ -436,6 +438,7 @@ public abstract class AbstractConfiguration implements Configuration
     private int                                       knobSpeedDefault                    = 0;
     private int                                       knobSpeedSlow                       = -40;
     private int                                       encoderKnobSlowDown                 = 0;
+    private boolean                                   isInputCoalescing                   = false;
 
     private boolean                                   noteRepeatActive                    = false;
     private Resolution                                noteRepeatPeriod                    = Resolution.RES_1_8;
@@ -853,6 +856,14 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isInputCoalescing ()
+    {
+        return this.isInputCoalescing;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isNoteRepeatActive ()
@@ -1512,6 +1523,22 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the input coalescing setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateInputCoalescingSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting inputCoalescingSetting = settingsUI.getEnumSetting ("Coalesce knob/fader input", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        inputCoalescingSetting.addValueObserver (value -> {
+            this.isInputCoalescing = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (INPUT_COALESCING);
+        });
+        this.isSettingActive.add (INPUT_COALESCING);
+    }
+
+
     /**
      * Activate the note repeat settings.
      *
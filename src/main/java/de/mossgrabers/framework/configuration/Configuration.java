@@ -383,6 +383,15 @@ public interface Configuration
     int getEncoderKnobSlowDown ();
 
 
+    /**
+     * Should the values of continuous controls received between two flushes be combined into one
+     * update?
+     *
+     * @return True if enabled
+     */
+    boolean isInputCoalescing ();
+
+
     /**
      * Get all supported Arpeggiator modes.
      *
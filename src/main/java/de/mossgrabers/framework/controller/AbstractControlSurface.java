@@ -38,6 +38,7 @@ import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.valuechanger.ISensitivityCallback;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -61,6 +62,7 @@ import de.mossgrabers.framework.view.Views;
 public abstract class AbstractControlSurface<C extends Configuration> implements IControlSurface<C>
 {
     private static final String                           SHOULD_BE_HANDLED_IN_FRAMEWORK = " should be handled in framework...";
+    private static final int                              MAX_SKIPPED_SENDS              = 3;
 
     protected static final int                            BUTTON_STATE_INTERVAL          = 500;
     protected static final int                            NUM_NOTES                      = 128;
@@ -97,6 +99,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final Object                                  updateCounterLock              = new Object ();
     private int                                           updateCounter                  = 0;
+    private int                                           skippedSends                   = 0;
+    private ModelEpoch                                    modelEpoch;
 
     private boolean                                       knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>              knobSensitivityObservers       = new ArrayList<> ();
@@ -810,8 +814,21 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected void internalFlushHandler ()
     {
+        final boolean wasUpdating = this.modelEpoch != null && this.modelEpoch.isUpdating ();
+        final long completedUpdates = this.modelEpoch == null ? 0 : this.modelEpoch.getCompletedUpdates ();
+
         this.updateViewControls ();
         this.updateGrid ();
+
+        // The model was changed while the states were read, they might be a mix of old and new
+        // values. Do not send them, the next flush will. But do not wait forever if the model
+        // changes constantly.
+        if (this.modelEpoch != null && !this.modelEpoch.isUnchanged (wasUpdating, completedUpdates) && this.skippedSends < MAX_SKIPPED_SENDS)
+        {
+            this.skippedSends++;
+            return;
+        }
+        this.skippedSends = 0;
         this.flushHardware ();
     }
 
@@ -1086,6 +1103,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setModelEpoch (final ModelEpoch modelEpoch)
+    {
+        this.modelEpoch = modelEpoch;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void addKnobSensitivityObserver (final ISensitivityCallback observer)
@@ -15,6 +15,7 @@ import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
@@ -144,6 +145,11 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.createScales ();
         this.createModel ();
         this.createSurface ();
+        if (this.model != null)
+        {
+            for (final S surface: this.surfaces)
+                surface.setModelEpoch (this.model.getModelEpoch ());
+        }
         this.createModes ();
         this.createObservers ();
         this.createViews ();
@@ -375,6 +381,9 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
             this.surfaces.forEach (surface -> surface.addKnobSensitivityObserver (this::updateRelativeKnobSensitivity));
         }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.INPUT_COALESCING))
+            this.configuration.addSettingObserver (AbstractConfiguration.INPUT_COALESCING, this::updateInputCoalescing);
     }
 
 
@@ -836,12 +845,13 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
      */
     protected void addLight (final S surface, final OutputID outputID, final ButtonID buttonID, final IHwButton button, final BindType bindType, final int midiChannel, final int midiControl, final IntSupplier supplier, final String... colorIds)
     {
+        // Color is the state if there are no colors provided!
+        final ColorHandle [] colorHandles = colorIds == null || colorIds.length == 0 ? null : ColorHandle.getAll (colorIds);
         surface.createLight (outputID, () -> {
             final int state = supplier.getAsInt ();
-            // Color is the state if there are no colors provided!
-            if (colorIds == null || colorIds.length == 0)
+            if (colorHandles == null)
                 return state;
-            return this.colorManager.getColorIndex (state < 0 ? ColorManager.BUTTON_STATE_OFF : colorIds[state]);
+            return this.colorManager.getColorIndex (state < 0 ? ColorManager.BUTTON_STATE_OFF_HANDLE : colorHandles[state]);
         }, color -> surface.setTrigger (bindType, midiChannel, midiControl, color), state -> this.colorManager.getColor (state, buttonID), button);
     }
 
@@ -1360,6 +1370,24 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Updates the input coalescing of all continuous controls from the configuration settings.
+     */
+    protected void updateInputCoalescing ()
+    {
+        final boolean isInputCoalescing = this.configuration.isInputCoalescing ();
+        for (final S surface: this.surfaces)
+        {
+            for (final ContinuousID continuousID: ContinuousID.values ())
+            {
+                final IHwContinuousControl control = surface.getContinuous (continuousID);
+                if (control != null)
+                    control.setInputCoalescing (isInputCoalescing);
+            }
+        }
+    }
+
+
     /**
      * Updates the knob sensitivities from the configuration settings.
      */
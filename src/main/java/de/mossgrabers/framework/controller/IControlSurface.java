@@ -22,6 +22,7 @@ import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.valuechanger.ISensitivityCallback;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -474,6 +475,15 @@ public interface IControlSurface<C extends Configuration>
     void setKnobSensitivityIsSlow (boolean knobSensitivityIsSlow);
 
 
+    /**
+     * Set the epoch of the model which is displayed by the surface. The state is not sent to the
+     * hardware while the model is changed.
+     *
+     * @param modelEpoch The epoch of the model
+     */
+    void setModelEpoch (ModelEpoch modelEpoch);
+
+
     /**
      * Turn off all triggers.
      */
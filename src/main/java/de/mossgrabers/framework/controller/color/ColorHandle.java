@@ -0,0 +1,97 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * An integer handle for a color key. There is exactly one handle for each key, which is shared by
+ * all color managers. Looking up the color index of a handle in a color manager is a plain array
+ * access, therefore the handle should be retrieved once (e.g. stored in a constant) and not on each
+ * access.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class ColorHandle
+{
+    private static final Map<String, ColorHandle> HANDLES = new ConcurrentHashMap<> ();
+    private static final AtomicInteger            NEXT_ID = new AtomicInteger ();
+
+    private final String                          key;
+    private final int                             id;
+
+
+    /**
+     * Constructor.
+     *
+     * @param key The color key
+     * @param id The unique ID of the handle
+     */
+    private ColorHandle (final String key, final int id)
+    {
+        this.key = key;
+        this.id = id;
+    }
+
+
+    /**
+     * Get the handle for a color key. Creates the handle if it does not exist yet.
+     *
+     * @param key The color key
+     * @return The handle
+     */
+    public static ColorHandle get (final String key)
+    {
+        return HANDLES.computeIfAbsent (key, k -> new ColorHandle (k, NEXT_ID.getAndIncrement ()));
+    }
+
+
+    /**
+     * Get the handles for several color keys.
+     *
+     * @param keys The color keys
+     * @return The handles in the same order as the keys
+     */
+    public static ColorHandle [] getAll (final String... keys)
+    {
+        final ColorHandle [] handles = new ColorHandle [keys.length];
+        for (int i = 0; i < keys.length; i++)
+            handles[i] = get (keys[i]);
+        return handles;
+    }
+
+
+    /**
+     * Get the color key.
+     *
+     * @return The key
+     */
+    public String getKey ()
+    {
+        return this.key;
+    }
+
+
+    /**
+     * Get the unique ID of the handle.
+     *
+     * @return The ID, starts at 0 and is continuously increased
+     */
+    public int getID ()
+    {
+        return this.id;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.key;
+    }
+}
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,21 +14,27 @@ import de.mossgrabers.framework.daw.DAWColor;
 
 /**
  * Manages colors. Color indices can be identified by a text identifier. The second lookup handles
- * the mapping from color indices to the real color values as ColorEx objects.
+ * the mapping from color indices to the real color values as ColorEx objects. Instead of the text
+ * identifier a color handle can be used, which is faster to look up.
  *
  * @author Jürgen Moßgraber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String            BUTTON_STATE_OFF        = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String            BUTTON_STATE_ON         = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String            BUTTON_STATE_HI         = "BUTTON_STATE_HI";
+    /** Handle for the color when button is turned off. */
+    public static final ColorHandle       BUTTON_STATE_OFF_HANDLE = ColorHandle.get (BUTTON_STATE_OFF);
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int              NOT_REGISTERED          = Integer.MIN_VALUE;
+
+    protected final Map<String, Integer>  colorIndexByKey         = new HashMap<> ();
+    protected final Map<Integer, ColorEx> colorByIndex            = new HashMap<> ();
+    private int []                        colorIndexByHandle      = new int [0];
 
 
     /**
@@ -53,6 +60,15 @@ public class ColorManager
     public void updateColorIndex (final String key, final int colorIndex)
     {
         this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+
+        final int id = ColorHandle.get (key).getID ();
+        final int length = this.colorIndexByHandle.length;
+        if (id >= length)
+        {
+            this.colorIndexByHandle = Arrays.copyOf (this.colorIndexByHandle, Math.max (id + 1, 2 * length));
+            Arrays.fill (this.colorIndexByHandle, length, this.colorIndexByHandle.length, NOT_REGISTERED);
+        }
+        this.colorIndexByHandle[id] = colorIndex;
     }
 
 
@@ -83,6 +99,22 @@ public class ColorManager
     }
 
 
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param handle The handle of the key
+     * @return The color index
+     */
+    public int getColorIndex (final ColorHandle handle)
+    {
+        final int id = handle.getID ();
+        final int colorIndex = id < this.colorIndexByHandle.length ? this.colorIndexByHandle[id] : NOT_REGISTERED;
+        if (colorIndex == NOT_REGISTERED)
+            throw new ColorIndexException ("Color for key " + handle.getKey () + " is not registered!");
+        return colorIndex;
+    }
+
+
     /**
      * Registers the real RGB color which is represented by the given color index.
      *
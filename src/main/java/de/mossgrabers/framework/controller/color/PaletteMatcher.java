@@ -0,0 +1,168 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+
+/**
+ * Finds the closest color in a fixed palette. The palette is stored in a k-d tree, which is built
+ * once, therefore a lookup only needs to compare a logarithmic number of palette entries. The
+ * result is identical to ColorEx.getClosestColorIndex with the same color distance, including the
+ * maximum distance and preferring the lower index if distances are equal.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class PaletteMatcher
+{
+    private static final double    MAX_DISTANCE       = 5.0;
+
+    /**
+     * Lower bounds of the weights of the red, green and blue differences of the color metric (the
+     * red and blue weights depend on the mean red value).
+     */
+    private static final double [] METRIC_MIN_WEIGHTS =
+    {
+        Math.sqrt (2.0),
+        Math.sqrt (4.0),
+        Math.sqrt (1.99609375)
+    };
+
+    private final boolean          useColorMetric;
+    private final double [] []     components;
+    private final int []           tree;
+
+
+    /**
+     * Constructor. Uses the color metric.
+     *
+     * @param palette The palette colors
+     */
+    public PaletteMatcher (final ColorEx [] palette)
+    {
+        this (palette, true);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param palette The palette colors
+     * @param useColorMetric If true uses color metrics to calculate the distance, see
+     *            https://www.compuphase.com/cmetric.htm
+     */
+    public PaletteMatcher (final ColorEx [] palette, final boolean useColorMetric)
+    {
+        this.useColorMetric = useColorMetric;
+
+        this.components = new double [palette.length] [];
+        for (int i = 0; i < palette.length; i++)
+            this.components[i] = palette[i].toDoubleRGB ();
+
+        final Integer [] indices = new Integer [palette.length];
+        for (int i = 0; i < palette.length; i++)
+            indices[i] = Integer.valueOf (i);
+        this.build (indices, 0, indices.length, 0);
+
+        this.tree = new int [palette.length];
+        for (int i = 0; i < palette.length; i++)
+            this.tree[i] = indices[i].intValue ();
+    }
+
+
+    /**
+     * Calculate the color from the palette which is the closest to the given color and return the
+     * index.
+     *
+     * @param color The color
+     * @return The index of the closest color from the palette, 0 if no color is close enough
+     */
+    public int getClosestColorIndex (final ColorEx color)
+    {
+        final int index = this.findClosestColorIndex (color);
+        return index < 0 ? 0 : index;
+    }
+
+
+    /**
+     * Calculate the color from the palette which is the closest to the given color and return the
+     * index.
+     *
+     * @param color The color
+     * @return The index of the closest color from the palette, -1 if no color is close enough
+     */
+    public int findClosestColorIndex (final ColorEx color)
+    {
+        final Search search = new Search (color.toDoubleRGB ());
+        this.search (search, 0, this.tree.length, 0);
+        return search.bestIndex;
+    }
+
+
+    /**
+     * Sort the range of indices into a balanced k-d tree. The median of the range is the node, the
+     * lower half the left and the upper half the right subtree.
+     *
+     * @param indices The palette indices
+     * @param from The start of the range (inclusive)
+     * @param to The end of the range (exclusive)
+     * @param axis The axis to split the range: 0 = red, 1 = green, 2 = blue
+     */
+    private void build (final Integer [] indices, final int from, final int to, final int axis)
+    {
+        if (to - from <= 1)
+            return;
+
+        Arrays.sort (indices, from, to, Comparator.comparingDouble ( (final Integer index) -> this.components[index.intValue ()][axis]));
+        final int median = (from + to) >>> 1;
+        final int nextAxis = (axis + 1) % 3;
+        this.build (indices, from, median, nextAxis);
+        this.build (indices, median + 1, to, nextAxis);
+    }
+
+
+    private void search (final Search search, final int from, final int to, final int axis)
+    {
+        if (from >= to)
+            return;
+
+        final int median = (from + to) >>> 1;
+        final int index = this.tree[median];
+        final double [] paletteColor = this.components[index];
+
+        final double distance = ColorEx.calcDistance (paletteColor, search.color, this.useColorMetric);
+        if (distance < search.bestDistance || distance == search.bestDistance && index < search.bestIndex)
+        {
+            search.bestDistance = distance;
+            search.bestIndex = index;
+        }
+
+        final double delta = search.color[axis] - paletteColor[axis];
+        final int nextAxis = (axis + 1) % 3;
+        final boolean isLower = delta < 0;
+        this.search (search, isLower ? from : median + 1, isLower ? median : to, nextAxis);
+
+        // Only check the other side if it can contain a closer (or equal) color
+        final double minDistance = Math.abs (delta) * (this.useColorMetric ? METRIC_MIN_WEIGHTS[axis] : 1.0);
+        if (minDistance <= search.bestDistance * (1.0 + 1e-9))
+            this.search (search, isLower ? median + 1 : from, isLower ? to : median, nextAxis);
+    }
+
+
+    /** The state of a search. */
+    private static class Search
+    {
+        final double [] color;
+        double          bestDistance = MAX_DISTANCE;
+        int             bestIndex    = -1;
+
+
+        Search (final double [] color)
+        {
+            this.color = color;
+        }
+    }
+}
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
+
+
 /**
  * Interface to a grid of pads.
  *
@@ -59,6 +62,29 @@ public interface IPadGrid extends ILightGuide
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param color The handle of a registered color ID of the color / brightness
+     */
+    void lightEx (int x, int y, ColorHandle color);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param color The handle of a registered color ID of the color / brightness
+     * @param blinkColor The handle of a registered color ID of the blinking color / brightness,
+     *            might be null
+     * @param fast Blinking is fast if true
+     */
+    void lightEx (int x, int y, ColorHandle color, ColorHandle blinkColor, boolean fast);
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
@@ -15,17 +16,18 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PadGridImpl implements IPadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int         NUM_NOTES       = 128;
+    protected static final ColorHandle GRID_OFF_HANDLE = ColorHandle.get (GRID_OFF);
 
-    protected final IMidiOutput  output;
-    protected final ColorManager colorManager;
+    protected final IMidiOutput        output;
+    protected final ColorManager       colorManager;
 
-    protected LightInfo []       padStates;
+    protected LightInfo []             padStates;
 
-    protected int                rows;
-    protected int                columns;
-    protected int                startNote;
-    protected int                endNote;
+    protected int                      rows;
+    protected int                      columns;
+    protected int                      startNote;
+    protected int                      endNote;
 
 
     /**
@@ -131,6 +133,38 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final ColorHandle color)
+    {
+        this.light (note, color, null, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final ColorHandle color)
+    {
+        this.lightEx (x, y, color, null, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final ColorHandle color, final ColorHandle blinkColor, final boolean fast)
+    {
+        this.light (note, this.colorManager.getColorIndex (color), blinkColor == null ? -1 : this.colorManager.getColorIndex (blinkColor), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final ColorHandle color, final ColorHandle blinkColor, final boolean fast)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndex (color), blinkColor == null ? -1 : this.colorManager.getColorIndex (blinkColor), fast);
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
@@ -141,7 +175,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF_HANDLE), fast);
     }
 
 
@@ -217,7 +251,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.colorManager.getColorIndex (GRID_OFF_HANDLE);
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
@@ -31,6 +31,7 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     protected IntSupplier       supplier;
     protected IntConsumer       consumer;
     protected int               outputValue           = -1;
+    protected boolean           isInputCoalescing     = false;
 
 
     /**
@@ -69,6 +70,22 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setInputCoalescing (final boolean isInputCoalescing)
+    {
+        this.isInputCoalescing = isInputCoalescing;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isInputCoalescing ()
+    {
+        return this.isInputCoalescing;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ContinuousCommand getCommand ()
@@ -113,6 +113,24 @@ public interface IHwContinuousControl extends IHwInputControl
     void handleValue (double value);
 
 
+    /**
+     * Enable or disable input coalescing. If enabled, all values which are received between two
+     * flushes are combined into one update: absolute controls only deliver the latest value,
+     * relative controls deliver the sum of all changes.
+     *
+     * @param isInputCoalescing True to enable
+     */
+    void setInputCoalescing (boolean isInputCoalescing);
+
+
+    /**
+     * Is input coalescing enabled?
+     *
+     * @return True if enabled
+     */
+    boolean isInputCoalescing ();
+
+
     /**
      * Add an output which represents the value of the knob, e.g. an LED ring.
      *
@@ -28,6 +28,7 @@ public abstract class AbstractBrowser implements IBrowser
     protected IBrowserColumn []                 columnData;
     protected int                               selectedFilterColumn = 0;
     protected String                            infoText             = "";
+    protected String                            searchText           = "";
 
     private final List<IValueObserver<Boolean>> activeObservers      = new ArrayList<> ();
 
@@ -237,6 +238,14 @@ public abstract class AbstractBrowser implements IBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String getSearchText ()
+    {
+        return this.searchText;
+    }
+
+
     /**
      * Inform all registered observers about the active state change of the browser.
      *
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ICursorLayer;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
@@ -44,7 +45,9 @@ public abstract class AbstractModel implements IModel
     protected final ColorManager                    colorManager;
     protected final IValueChanger                   valueChanger;
     protected final ModelSetup                      modelSetup;
+    protected final ModelEpoch                      modelEpoch;
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers    = new HashSet<> ();
+    protected final Set<IValueObserver<ModelArea>>  modelChangeObservers  = new HashSet<> ();
 
     protected IApplication                          application;
     protected IMixer                                mixer;
@@ -83,6 +86,7 @@ public abstract class AbstractModel implements IModel
         this.host = dataSetup.getHost ();
         this.colorManager = dataSetup.getColorManager ();
         this.valueChanger = dataSetup.getValueChanger ();
+        this.modelEpoch = dataSetup.getModelEpoch ();
         this.scales = scales;
     }
 
@@ -95,6 +99,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ModelEpoch getModelEpoch ()
+    {
+        return this.modelEpoch;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IValueChanger getValueChanger ()
@@ -267,6 +279,35 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addModelChangeObserver (final IValueObserver<ModelArea> observer)
+    {
+        this.modelChangeObservers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeModelChangeObserver (final IValueObserver<ModelArea> observer)
+    {
+        this.modelChangeObservers.remove (observer);
+    }
+
+
+    /**
+     * Notify all model change observers that an area of the model has received a change from the
+     * DAW.
+     *
+     * @param area The area which has changed
+     */
+    public void notifyModelChangeObservers (final ModelArea area)
+    {
+        for (final IValueObserver<ModelArea> observer: this.modelChangeObservers)
+            observer.update (area);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ITrackBank getTrackBank ()
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.PaletteMatcher;
 
 import java.util.List;
 
@@ -77,6 +78,13 @@ public enum DAWColor
     private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
     private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
 
+    private static final DAWColor []    VALUES           = DAWColor.values ();
+
+    /** Direct mapped cache from 24-bit RGB values to the closest color, size must be power of 2. */
+    private static final int            CACHE_SIZE       = 1024;
+    private static final CacheEntry []  CLOSEST_CACHE    = new CacheEntry [CACHE_SIZE];
+    private static final PaletteMatcher PALETTE_MATCHER  = createPaletteMatcher ();
+
     private final String                name;
     private final ColorEx               color;
 
@@ -137,8 +145,7 @@ public enum DAWColor
      */
     public static ColorEx getColorEntry (final int colorIndex)
     {
-        final DAWColor [] values = DAWColor.values ();
-        return values[colorIndex >= 0 && colorIndex < values.length ? colorIndex : 0].getColor ();
+        return VALUES[colorIndex >= 0 && colorIndex < VALUES.length ? colorIndex : 0].getColor ();
     }
 
 
@@ -164,7 +171,8 @@ public enum DAWColor
      */
     public static String getColorID (final double red, final double green, final double blue)
     {
-        return getColorID (new ColorEx (red, green, blue));
+        final int rgb = (int) Math.round (red * 255.0) << 16 | (int) Math.round (green * 255.0) << 8 | (int) Math.round (blue * 255.0);
+        return getClosestColor (rgb).name ();
     }
 
 
@@ -176,19 +184,50 @@ public enum DAWColor
      */
     public static String getColorID (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
-        double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
-        {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color, true);
-            if (error < minError)
-            {
-                cid = values[i];
-                minError = error;
-            }
-        }
-        return cid.name ();
+        return getColorID (color.getRed (), color.getGreen (), color.getBlue ());
+    }
+
+
+    /**
+     * Get the color closest to the given 24-bit RGB value. The result is cached since the same
+     * colors (e.g. of tracks and clips) are looked up on every flush.
+     *
+     * @param rgb The RGB value (8-bit each, red is the most significant byte)
+     * @return The closest color
+     */
+    private static DAWColor getClosestColor (final int rgb)
+    {
+        final int index = (rgb ^ rgb >>> 10 ^ rgb >>> 20) & CACHE_SIZE - 1;
+        final CacheEntry entry = CLOSEST_CACHE[index];
+        if (entry != null && entry.rgb () == rgb)
+            return entry.color ();
+
+        final DAWColor color = calcClosestColor (ColorEx.fromRGB (rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF));
+        CLOSEST_CACHE[index] = new CacheEntry (rgb, color);
+        return color;
+    }
+
+
+    /**
+     * Search the color closest to the given color.
+     *
+     * @param color The color
+     * @return The closest color, COLOR_OFF if none is close enough
+     */
+    private static DAWColor calcClosestColor (final ColorEx color)
+    {
+        // COLOR_OFF is not part of the palette
+        final int index = PALETTE_MATCHER.findClosestColorIndex (color);
+        return index < 0 ? VALUES[0] : VALUES[index + 1];
+    }
+
+
+    private static PaletteMatcher createPaletteMatcher ()
+    {
+        final ColorEx [] palette = new ColorEx [VALUES.length - 1];
+        for (int i = 1; i < VALUES.length; i++)
+            palette[i - 1] = VALUES[i].getColor ();
+        return new PaletteMatcher (palette);
     }
 
 
@@ -208,4 +247,15 @@ public enum DAWColor
 
         return color;
     }
+
+
+    /**
+     * An entry in the closest color cache.
+     *
+     * @param rgb The 24-bit RGB value
+     * @param color The closest color
+     */
+    private record CacheEntry (int rgb, DAWColor color)
+    {
+    }
 }
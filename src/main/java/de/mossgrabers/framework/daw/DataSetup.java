@@ -18,6 +18,7 @@ public class DataSetup
     private final IHost         host;
     private final IValueChanger valueChanger;
     private final ColorManager  colorManager;
+    private final ModelEpoch    modelEpoch;
 
     private ITransport          transport;
 
@@ -28,12 +29,14 @@ public class DataSetup
      * @param host The DAW host
      * @param valueChanger The value changer
      * @param colorManager The color manager
+     * @param modelEpoch Marks the changes of the model
      */
-    public DataSetup (final IHost host, final IValueChanger valueChanger, final ColorManager colorManager)
+    public DataSetup (final IHost host, final IValueChanger valueChanger, final ColorManager colorManager, final ModelEpoch modelEpoch)
     {
         this.host = host;
         this.valueChanger = valueChanger;
         this.colorManager = colorManager;
+        this.modelEpoch = modelEpoch;
     }
 
 
@@ -70,6 +73,17 @@ public class DataSetup
     }
 
 
+    /**
+     * Get the epoch which marks the changes of the model.
+     *
+     * @return The model epoch
+     */
+    public ModelEpoch getModelEpoch ()
+    {
+        return this.modelEpoch;
+    }
+
+
     /**
      * Set the transport.
      *
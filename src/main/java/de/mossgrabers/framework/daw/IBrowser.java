@@ -281,6 +281,23 @@ public interface IBrowser extends IObserverManagement
     String getSelectedResult ();
 
 
+    /**
+     * Set a text to search for. Only results which contain the text are shown. Results which start
+     * with the text are shown first.
+     *
+     * @param searchText The text, an empty text shows all results
+     */
+    void setSearchText (String searchText);
+
+
+    /**
+     * Get the text which is searched for.
+     *
+     * @return The text, empty if all results are shown
+     */
+    String getSearchText ();
+
+
     /**
      * Get the number of results to display on a page.
      *
@@ -124,18 +124,23 @@ public interface IHost
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxPacketSize Bundles are filled up to this number of bytes before a new packet is
+     *            started
+     * @param useTimeTags Stamp bundles with the current time instead of the immediate time tag
+     * @param useTCP Send SLIP framed packets over TCP instead of UDP datagrams
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxPacketSize, boolean useTimeTags, boolean useTCP);
 
 
     /**
      * Create an OSC server.
      *
      * @param callback The callback method to handle received messages
+     * @param useTCP Receive SLIP framed packets over TCP instead of UDP datagrams
      * @return The created server
      */
-    IOpenSoundControlServer createOSCServer (IOpenSoundControlCallback callback);
+    IOpenSoundControlServer createOSCServer (IOpenSoundControlCallback callback, boolean useTCP);
 
 
     /**
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ICursorLayer;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
@@ -42,6 +43,14 @@ public interface IModel
     IHost getHost ();
 
 
+    /**
+     * Get the epoch which marks the changes of the model.
+     *
+     * @return The model epoch
+     */
+    ModelEpoch getModelEpoch ();
+
+
     /**
      * Get the value changer.
      *
@@ -218,6 +227,23 @@ public interface IModel
     void removeTrackBankObserver (IValueObserver<ITrackBank> observer);
 
 
+    /**
+     * Add an observer which gets notified about the area of the model which received changes from
+     * the DAW. The observer is called for each received change, therefore it should be cheap.
+     *
+     * @param observer The observer to register
+     */
+    void addModelChangeObserver (IValueObserver<ModelArea> observer);
+
+
+    /**
+     * Remove an observer for model changes.
+     *
+     * @param observer The observer to remove
+     */
+    void removeModelChangeObserver (IValueObserver<ModelArea> observer);
+
+
     /**
      * Get the track bank.
      *
@@ -0,0 +1,84 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Marks the time spans in which a model is changed. Every writer of the model (the updates from the
+ * DAW, received MIDI and OSC messages) calls beginUpdate before and endUpdate after applying a batch
+ * of changes. Writers might run in parallel on different threads, therefore the number of open
+ * updates is counted. Additionally, the number of completed updates is counted. A reader captures
+ * both before it reads the model and compares them afterwards. If an update was open or completed
+ * in between, the read values might be a combination of old and new ones. Neither the writers nor
+ * the readers are blocked and no snapshot of the model is created, the reader can only detect and
+ * discard a torn read.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class ModelEpoch
+{
+    private final AtomicInteger openUpdates      = new AtomicInteger ();
+    private final AtomicLong    completedUpdates = new AtomicLong ();
+
+
+    /**
+     * Call before a batch of changes is applied to the model. Must be followed by a call to
+     * endUpdate, use a finally block.
+     */
+    public void beginUpdate ()
+    {
+        this.openUpdates.incrementAndGet ();
+    }
+
+
+    /**
+     * Call after a batch of changes was applied to the model.
+     */
+    public void endUpdate ()
+    {
+        // Count first, a reader which does not see the open update anymore must see the new count
+        this.completedUpdates.incrementAndGet ();
+        this.openUpdates.decrementAndGet ();
+    }
+
+
+    /**
+     * Check if the model is currently changed.
+     *
+     * @return True if at least one update is in progress
+     */
+    public boolean isUpdating ()
+    {
+        return this.openUpdates.get () > 0;
+    }
+
+
+    /**
+     * Get the number of completed updates.
+     *
+     * @return The number of calls to endUpdate so far
+     */
+    public long getCompletedUpdates ()
+    {
+        return this.completedUpdates.get ();
+    }
+
+
+    /**
+     * Check if the model was not changed since a read started. Call it after the read. Checks the
+     * open updates first, since endUpdate increases the count before it closes the update.
+     *
+     * @param wasUpdating The result of isUpdating, captured before the read
+     * @param completedUpdates The result of getCompletedUpdates, captured before the read
+     * @return True if no update was open during the read and no update completed in between
+     */
+    public boolean isUnchanged (final boolean wasUpdating, final long completedUpdates)
+    {
+        return !wasUpdating && !this.isUpdating () && this.completedUpdates.get () == completedUpdates;
+    }
+}
@@ -0,0 +1,36 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.constants;
+
+/**
+ * The different areas of the model which are notified about changes received from the DAW.
+ *
+ * @author Jürgen Moßgraber
+ */
+public enum ModelArea
+{
+    /** The transport, including the metronome. */
+    TRANSPORT,
+    /** The project and application states. */
+    PROJECT,
+    /** The tracks, including the cursor track. */
+    TRACK,
+    /** The master track. */
+    MASTER,
+    /** The cursor device and the specific devices. */
+    DEVICE,
+    /** The browser. */
+    BROWSER,
+    /** The markers. */
+    MARKER,
+    /** The cursor clip. */
+    CLIP,
+    /** The scenes. */
+    SCENE,
+    /** The note repeat. */
+    NOTE_REPEAT,
+    /** The groove. */
+    GROOVE
+}
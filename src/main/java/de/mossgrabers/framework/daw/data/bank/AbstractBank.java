@@ -123,6 +123,17 @@ public abstract class AbstractBank<T> implements IBank<T>
     }
 
 
+    /**
+     * Check if there are registered selection or page observers.
+     *
+     * @return True if at least one observer is registered
+     */
+    public boolean hasObservers ()
+    {
+        return !this.selectionObservers.isEmpty () || !this.pageObservers.isEmpty ();
+    }
+
+
     /**
      * Notify all registered selection observers.
      *
@@ -10,27 +10,56 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to an OSC server. Each address is registered once and gets
+ * an integer key. The last sent value of each key is cached in primitive arrays, which allows to
+ * test for changes without boxing the values.
+ * <p>
+ * Clients can subscribe to address prefixes. If there is at least one subscription, only values
+ * of subscribed addresses are sent (and cached). Without subscriptions all values are sent.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    // The type of a cache entry, 0 marks an empty entry
+    private static final byte                      CACHE_BOOLEAN = 1;
+    private static final byte                      CACHE_INTEGER = 2;
+    private static final byte                      CACHE_FLOAT   = 3;
+    private static final byte                      CACHE_COLOR   = 4;
+    private static final byte                      CACHE_STRING  = 5;
+    private static final byte                      CACHE_OBJECT  = 6;
+
+    private static final Integer                   ZERO          = Integer.valueOf (0);
+    private static final Integer                   ONE           = Integer.valueOf (1);
+
+    // The subscription state of an address, 0 marks a not yet tested address
+    private static final byte                      SUBSCRIBED    = 1;
+    private static final byte                      UNSUBSCRIBED  = 2;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage>   messages      = new ArrayList<> ();
+
+    private final Map<String, Integer>             addressKeys   = new HashMap<> ();
+    private final List<String>                     addresses     = new ArrayList<> ();
+    private byte []                                cacheTypes    = new byte [256];
+    private long []                                numberCache   = new long [256];
+    private Object []                              objectCache   = new Object [256];
+
+    private volatile Subscriptions                 subscriptions = new Subscriptions (new String [0], 0);
 
 
     /**
@@ -76,8 +105,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
             {
                 if (updateAddress != null)
                 {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (ONE)));
+                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (ZERO)));
                 }
 
                 this.logMessages (this.messages);
@@ -85,7 +114,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
             }
             catch (final IOException ex)
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                this.model.getHost ().error ("Could not send OSC message.", ex);
             }
 
             this.messages.clear ();
@@ -119,14 +148,143 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Subscribe to all addresses which start with the given prefix. A prefix only matches
+     * complete segments, e.g. /track/1 matches /track/1/volume but not /track/10/volume.
+     *
+     * @param addressPrefix The address prefix, e.g. /track/1, use / to subscribe to all addresses
+     */
+    public synchronized void subscribe (final String addressPrefix)
+    {
+        final String prefix = normalizePrefix (addressPrefix);
+        final String [] prefixes = this.subscriptions.prefixes;
+        for (final String p: prefixes)
+        {
+            if (p.equals (prefix))
+                return;
+        }
+        final String [] newPrefixes = Arrays.copyOf (prefixes, prefixes.length + 1);
+        newPrefixes[prefixes.length] = prefix;
+        this.subscriptions = new Subscriptions (newPrefixes, this.cacheTypes.length);
+    }
+
+
+    /**
+     * Remove the subscription of an address prefix.
+     *
+     * @param addressPrefix The address prefix which was used to subscribe
+     */
+    public synchronized void unsubscribe (final String addressPrefix)
+    {
+        final String prefix = normalizePrefix (addressPrefix);
+        final List<String> newPrefixes = new ArrayList<> (Arrays.asList (this.subscriptions.prefixes));
+        if (newPrefixes.remove (prefix))
+            this.subscriptions = new Subscriptions (newPrefixes.toArray (new String [newPrefixes.size ()]), this.cacheTypes.length);
+    }
+
+
+    /**
+     * Remove all subscriptions. All values are sent again.
+     */
+    public synchronized void unsubscribeAll ()
+    {
+        this.subscriptions = new Subscriptions (new String [0], 0);
+    }
+
+
+    /**
+     * Check if there is at least one subscription.
+     *
+     * @return True if there are subscriptions
+     */
+    public boolean hasSubscriptions ()
+    {
+        return this.subscriptions.prefixes.length > 0;
+    }
+
+
+    /**
+     * Check if there is a subscription for at least one address which starts with the given
+     * prefix, e.g. to test if a whole module needs to be flushed.
+     *
+     * @param addressPrefix The normalized address prefix, e.g. /track
+     * @return True if there is a matching subscription or if there are no subscriptions at all
+     */
+    public boolean isSubscribedToPrefix (final String addressPrefix)
+    {
+        final String [] prefixes = this.subscriptions.prefixes;
+        if (prefixes.length == 0)
+            return true;
+        for (final String prefix: prefixes)
+        {
+            if (matches (prefix, addressPrefix) || matches (addressPrefix, prefix))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Check if the address of the key is subscribed. The result is stored, therefore the prefixes
+     * are only compared once for each address.
+     *
+     * @param addressKey The key of the address
+     * @return True if the address is subscribed or if there are no subscriptions at all
+     */
+    protected boolean isSubscribed (final int addressKey)
+    {
+        final Subscriptions subs = this.subscriptions;
+        if (subs.prefixes.length == 0)
+            return true;
+
+        final boolean isCached = addressKey < subs.states.length;
+        if (isCached && subs.states[addressKey] != 0)
+            return subs.states[addressKey] == SUBSCRIBED;
+
+        final String address = this.addresses.get (addressKey);
+        boolean isSubscribed = false;
+        for (final String prefix: subs.prefixes)
+        {
+            if (matches (prefix, address))
+            {
+                isSubscribed = true;
+                break;
+            }
+        }
+        if (isCached)
+            subs.states[addressKey] = isSubscribed ? SUBSCRIBED : UNSUBSCRIBED;
+        return isSubscribed;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAddressKey (final String address)
+    {
+        final Integer key = this.addressKeys.get (address);
+        if (key != null)
+            return key.intValue ();
+
+        final int newKey = this.addresses.size ();
+        this.addresses.add (address);
+        this.addressKeys.put (address, Integer.valueOf (newKey));
+
+        if (newKey >= this.cacheTypes.length)
+        {
+            final int newSize = 2 * this.cacheTypes.length;
+            this.cacheTypes = Arrays.copyOf (this.cacheTypes, newSize);
+            this.numberCache = Arrays.copyOf (this.numberCache, newSize);
+            this.objectCache = Arrays.copyOf (this.objectCache, newSize);
+        }
+        return newKey;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.getAddressKey (address), red, green, blue, dump);
     }
 
 
@@ -134,7 +292,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.getAddressKey (address), value, dump);
     }
 
 
@@ -142,8 +300,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.getAddressKey (address), value, dump);
     }
 
 
@@ -151,7 +308,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.getAddressKey (address), value, dump);
     }
 
 
@@ -159,7 +316,74 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.getAddressKey (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int addressKey, final double red, final double green, final double blue, final boolean dump)
+    {
+        if (!this.isSubscribed (addressKey))
+            return;
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (this.updateCache (addressKey, CACHE_COLOR, r << 16 | g << 8 | b, dump))
+            this.addMessage (this.addresses.get (addressKey), "rgb(" + r + "," + g + "," + b + ")");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressKey, final boolean value, final boolean dump)
+    {
+        if (!this.isSubscribed (addressKey))
+            return;
+        if (this.updateCache (addressKey, CACHE_BOOLEAN, value ? 1 : 0, dump))
+            this.addMessage (this.addresses.get (addressKey), value ? ONE : ZERO);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressKey, final double value, final boolean dump)
+    {
+        if (!this.isSubscribed (addressKey))
+            return;
+
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (this.updateCache (addressKey, CACHE_FLOAT, Float.floatToIntBits (floatValue), dump))
+            this.addMessage (this.addresses.get (addressKey), Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressKey, final int value, final boolean dump)
+    {
+        if (!this.isSubscribed (addressKey))
+            return;
+        if (this.updateCache (addressKey, CACHE_INTEGER, value, dump))
+            this.addMessage (this.addresses.get (addressKey), Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressKey, final String value, final boolean dump)
+    {
+        if (!this.isSubscribed (addressKey))
+            return;
+
+        // Compare the original text to prevent the conversion if nothing has changed
+        if (!dump && this.cacheTypes[addressKey] == CACHE_STRING && Objects.equals (this.objectCache[addressKey], value))
+            return;
+        this.cacheTypes[addressKey] = CACHE_STRING;
+        this.objectCache[addressKey] = value;
+
+        this.addMessage (this.addresses.get (addressKey), StringUtils.fixASCII (value));
     }
 
 
@@ -191,19 +415,51 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        final int addressKey = this.getAddressKey (cacheAddress);
+        if (!this.isSubscribed (addressKey))
             return;
-        this.oldValues.put (cacheAddress, testValue);
+        if (!dump && this.cacheTypes[addressKey] == CACHE_OBJECT && compareValues (this.objectCache[addressKey], testValue))
+            return;
+        this.cacheTypes[addressKey] = CACHE_OBJECT;
+        this.objectCache[addressKey] = testValue;
 
-        // Convert the value to a list in case it is not already one
-        final List<?> list;
-        if (value instanceof final List<?> l)
-            list = l;
-        else if (value instanceof final Boolean booleanValue)
-            list = Collections.singletonList (Integer.valueOf (booleanValue.booleanValue () ? 1 : 0));
+        if (value instanceof final Boolean booleanValue)
+            this.addMessage (address, booleanValue.booleanValue () ? ONE : ZERO);
         else
-            list = Collections.singletonList (value);
+            this.addMessage (address, value);
+    }
+
+
+    /**
+     * Stores a primitive value in the cache.
+     *
+     * @param addressKey The key of the address
+     * @param type The type of the value
+     * @param value The value
+     * @param dump True to dump (ignore cache)
+     * @return True if the value has changed or dump is true
+     */
+    private boolean updateCache (final int addressKey, final byte type, final long value, final boolean dump)
+    {
+        if (!dump && this.cacheTypes[addressKey] == type && this.numberCache[addressKey] == value)
+            return false;
+        this.cacheTypes[addressKey] = type;
+        this.numberCache[addressKey] = value;
+        this.objectCache[addressKey] = null;
+        return true;
+    }
+
 
+    /**
+     * Adds a message to the messages list.
+     *
+     * @param address The address of the OSC message
+     * @param value The value(s) of the OSC message
+     */
+    private void addMessage (final String address, final Object value)
+    {
+        // Convert the value to a list in case it is not already one
+        final List<?> list = value instanceof final List<?> l ? l : Collections.singletonList (value);
         synchronized (this.messages)
         {
             this.messages.add (this.host.createOSCMessage (address, list));
@@ -211,6 +467,38 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Removes slashes at the end of a prefix and adds a leading one if missing.
+     *
+     * @param addressPrefix The address prefix
+     * @return The normalized prefix, an empty text matches all addresses
+     */
+    private static String normalizePrefix (final String addressPrefix)
+    {
+        String prefix = addressPrefix == null ? "" : addressPrefix.trim ();
+        int end = prefix.length ();
+        while (end > 0 && prefix.charAt (end - 1) == '/')
+            end--;
+        prefix = prefix.substring (0, end);
+        return prefix.isEmpty () || prefix.charAt (0) == '/' ? prefix : "/" + prefix;
+    }
+
+
+    /**
+     * Check if an address starts with a normalized prefix, which must match complete segments.
+     *
+     * @param prefix The normalized prefix
+     * @param address The address
+     * @return True if the prefix matches
+     */
+    private static boolean matches (final String prefix, final String address)
+    {
+        if (!address.startsWith (prefix))
+            return false;
+        return address.length () == prefix.length () || address.charAt (prefix.length ()) == '/';
+    }
+
+
     /**
      * Check if the client is connected.
      *
@@ -297,4 +585,19 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /** The subscribed prefixes and the stored subscription states of the address keys. */
+    private static class Subscriptions
+    {
+        final String [] prefixes;
+        final byte []   states;
+
+
+        Subscriptions (final String [] prefixes, final int numberOfKeys)
+        {
+            this.prefixes = prefixes;
+            this.states = new byte [numberOfKeys];
+        }
+    }
 }
@@ -96,4 +96,72 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Get the key of an address. The key is created when the address is used for the first time
+     * and stays the same afterwards. Sending with the key instead of the address prevents the
+     * lookup of the address on each call, therefore the key should be retrieved once and kept.
+     *
+     * @param address The OSC address
+     * @return The key of the address
+     */
+    int getAddressKey (String address);
+
+
+    /**
+     * Send an OSC message with a color value. Same as the version with an address but uses the key
+     * of an address.
+     *
+     * @param addressKey The key of the address of the OSC message, see getAddressKey
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int addressKey, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value. Same as the version with an address but uses the
+     * key of an address.
+     *
+     * @param addressKey The key of the address of the OSC message, see getAddressKey
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressKey, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value. Same as the version with an address but uses the
+     * key of an address.
+     *
+     * @param addressKey The key of the address of the OSC message, see getAddressKey
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressKey, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value. Same as the version with an address but uses the
+     * key of an address.
+     *
+     * @param addressKey The key of the address of the OSC message, see getAddressKey
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressKey, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value. Same as the version with an address but uses the
+     * key of an address.
+     *
+     * @param addressKey The key of the address of the OSC message, see getAddressKey
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressKey, String value, boolean dump);
 }
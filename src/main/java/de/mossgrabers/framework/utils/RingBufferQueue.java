@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * A bounded, lock-free queue backed by a ring buffer, e.g. for received OSC messages or logging
+ * messages. Several threads can add messages but only one thread must remove them. If the queue is
+ * full, new messages are either dropped and counted or the adding thread waits for free space.
+ *
+ * @param <T> The type of the messages
+ *
+ * @author Jürgen Moßgraber
+ */
+public class RingBufferQueue<T>
+{
+    private final AtomicReferenceArray<T> slots;
+    private final int                     capacity;
+    private final int                     mask;
+    private final AtomicLong              head          = new AtomicLong ();
+    private final AtomicLong              tail          = new AtomicLong ();
+    private final AtomicLong              droppedCount  = new AtomicLong ();
+    private final AtomicLong              maxQueueDepth = new AtomicLong ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of queued messages, is rounded up to the next power of 2
+     */
+    public RingBufferQueue (final int capacity)
+    {
+        this.capacity = Integer.highestOneBit (Math.max (2, capacity) - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<> (this.capacity);
+    }
+
+
+    /**
+     * Add a message to the end of the queue.
+     *
+     * @param message The message to add
+     * @return True if added, false if the queue is full and the message was dropped
+     */
+    public boolean offer (final T message)
+    {
+        if (this.add (message))
+            return true;
+        this.droppedCount.incrementAndGet ();
+        return false;
+    }
+
+
+    /**
+     * Add a message to the end of the queue. If the queue is full, waits until the consumer has
+     * removed messages, e.g. to apply backpressure to a stream based connection.
+     *
+     * @param message The message to add
+     * @throws InterruptedException The waiting thread was interrupted
+     */
+    public void put (final T message) throws InterruptedException
+    {
+        while (!this.add (message))
+        {
+            LockSupport.parkNanos (TimeUnit.MILLISECONDS.toNanos (1));
+            if (Thread.interrupted ())
+                throw new InterruptedException ();
+        }
+    }
+
+
+    /**
+     * Remove the first message from the queue. Must only be called from one thread.
+     *
+     * @return The message or null if the queue is empty
+     */
+    public T poll ()
+    {
+        final long h = this.head.get ();
+        final int index = (int) (h & this.mask);
+        // Null if the queue is empty or the message is not completely added yet
+        final T message = this.slots.get (index);
+        if (message == null)
+            return null;
+        this.slots.lazySet (index, null);
+        this.head.lazySet (h + 1);
+        return message;
+    }
+
+
+    /**
+     * Add a message to the end of the queue, if there is space left.
+     *
+     * @param message The message to add
+     * @return True if added, false if the queue is full
+     */
+    private boolean add (final T message)
+    {
+        while (true)
+        {
+            final long t = this.tail.get ();
+            final long depth = t - this.head.get ();
+            if (depth >= this.capacity)
+                return false;
+            if (this.tail.compareAndSet (t, t + 1))
+            {
+                this.slots.lazySet ((int) (t & this.mask), message);
+                this.maxQueueDepth.accumulateAndGet (depth + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * Get the number of messages in the queue.
+     *
+     * @return The number of messages
+     */
+    public int getQueueDepth ()
+    {
+        return (int) Math.max (0, this.tail.get () - this.head.get ());
+    }
+
+
+    /**
+     * Get the maximum number of messages which were in the queue at the same time.
+     *
+     * @return The maximum number of messages
+     */
+    public int getMaxQueueDepth ()
+    {
+        return (int) this.maxQueueDepth.get ();
+    }
+
+
+    /**
+     * Get the number of messages which were dropped since the queue was full.
+     *
+     * @return The number of dropped messages
+     */
+    public long getDroppedCount ()
+    {
+        return this.droppedCount.get ();
+    }
+}
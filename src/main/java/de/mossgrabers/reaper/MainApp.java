@@ -5,6 +5,7 @@
 package de.mossgrabers.reaper;
 
 import de.mossgrabers.framework.controller.IControllerDefinition;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.reaper.communication.BackendExchange;
@@ -18,6 +19,7 @@ import de.mossgrabers.reaper.framework.configuration.IfxSetting;
 import de.mossgrabers.reaper.framework.daw.BrowserContentType;
 import de.mossgrabers.reaper.framework.device.DeviceManager;
 import de.mossgrabers.reaper.framework.graphics.SVGImage;
+import de.mossgrabers.reaper.framework.midi.InputLatencyTracer;
 import de.mossgrabers.reaper.framework.midi.MidiAccessImpl;
 import de.mossgrabers.reaper.framework.midi.MidiConnection;
 import de.mossgrabers.reaper.framework.midi.ReaperMidiDevice;
@@ -40,6 +42,7 @@ import javax.swing.Timer;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -109,6 +112,8 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
 
         this.loadConfig ();
         this.loadINIFiles (this.iniPath);
+
+        InputLatencyTracer.get ().setSampleRate (this.mainConfiguration.getInt ("LATENCY_TRACING_SAMPLE_RATE", 0));
     }
 
 
@@ -151,6 +156,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
         this.logModel.info ("Storing configuration...");
         this.instanceManager.save (this.mainConfiguration);
         this.saveConfig ();
+        this.exportLatencyTracing ();
 
         MidiConnection.cleanupUnusedDevices ();
 
@@ -179,6 +185,28 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
     }
 
 
+    /**
+     * Write the collected MIDI input latencies to a CSV file, if tracing is enabled.
+     */
+    private void exportLatencyTracing ()
+    {
+        final InputLatencyTracer tracer = InputLatencyTracer.get ();
+        if (!tracer.isEnabled () || this.iniPath == null)
+            return;
+
+        final File file = new File (this.iniPath, "DrivenByMoss4Reaper-Latency.csv");
+        this.logModel.info ("Writing MIDI input latencies to " + file.getAbsolutePath ());
+        try
+        {
+            tracer.exportCSV (file);
+        }
+        catch (final IOException ex)
+        {
+            this.logModel.error ("Could not write MIDI input latencies.", ex);
+        }
+    }
+
+
     /**
      * Save the settings from the configuration file.
      */
@@ -338,6 +366,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
         if (Actions.isBlocked (actionID))
             return;
 
+        InputLatencyTracer.get ().backendCalled ();
         this.processIntArg ("action", "", actionID);
     }
 
@@ -346,6 +375,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
     @Override
     public void processNoArg (final Processor processor, final String command)
     {
+        InputLatencyTracer.get ().backendCalled ();
         this.processNoArg (processor.name ().toLowerCase (Locale.US), command);
     }
 
@@ -363,6 +393,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
     @Override
     public void processStringArg (final Processor processor, final String command, final String value)
     {
+        InputLatencyTracer.get ().backendCalled ();
         this.processStringArg (processor.name ().toLowerCase (Locale.US), command, value);
     }
 
@@ -381,6 +412,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
     @Override
     public void processStringArgs (final Processor processor, final String command, final String [] values)
     {
+        InputLatencyTracer.get ().backendCalled ();
         this.processStringArgs (processor.name ().toLowerCase (Locale.US), command, values);
     }
 
@@ -399,6 +431,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
     @Override
     public void processIntArg (final Processor processor, final String command, final int value)
     {
+        InputLatencyTracer.get ().backendCalled ();
         this.processIntArg (processor.name ().toLowerCase (Locale.US), command, value);
     }
 
@@ -417,6 +450,7 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
     @Override
     public void processDoubleArg (final Processor processor, final String command, final double value)
     {
+        InputLatencyTracer.get ().backendCalled ();
         this.processDoubleArg (processor.name ().toLowerCase (Locale.US), command, value);
     }
 
@@ -661,21 +695,32 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
             return;
 
         SafeRunLater.execute (this.logModel, () -> {
-            for (final String command: data.split ("\n"))
+            // Surfaces do not send their state to the hardware while the update is applied to their
+            // model
+            final List<ModelEpoch> modelEpochs = this.instanceManager.getModelEpochs ();
+            modelEpochs.forEach (ModelEpoch::beginUpdate);
+            try
             {
-                final String [] split = command.split (" ");
-                final String params = split.length == 1 ? null : command.substring (split[0].length () + 1);
-                try
+                for (final String command: data.split ("\n"))
                 {
-                    this.handleReceiveOSC (split[0], params);
-                }
-                catch (final IllegalArgumentException ex)
-                {
-                    final StringWriter sw = new StringWriter ();
-                    ex.printStackTrace (new PrintWriter (sw));
-                    this.logModel.info (sw.toString ());
+                    final String [] split = command.split (" ");
+                    final String params = split.length == 1 ? null : command.substring (split[0].length () + 1);
+                    try
+                    {
+                        this.handleReceiveOSC (split[0], params);
+                    }
+                    catch (final IllegalArgumentException ex)
+                    {
+                        final StringWriter sw = new StringWriter ();
+                        ex.printStackTrace (new PrintWriter (sw));
+                        this.logModel.info (sw.toString ());
+                    }
                 }
             }
+            finally
+            {
+                modelEpochs.forEach (ModelEpoch::endUpdate);
+            }
         });
     }
 
@@ -787,14 +832,23 @@ public class MainApp implements BackendExchange, AppCallback, WindowManager
             return;
         }
 
-        for (final ReaperMidiDevice input: MidiAccessImpl.getInputDevices ())
+        final InputLatencyTracer tracer = InputLatencyTracer.get ();
+        tracer.begin ();
+        try
         {
-            if (input.getDeviceID () == deviceID)
+            for (final ReaperMidiDevice input: MidiAccessImpl.getInputDevices ())
             {
-                input.handleMidiMessageFromBackend (midiMessage);
-                return;
+                if (input.getDeviceID () == deviceID)
+                {
+                    input.handleMidiMessageFromBackend (midiMessage);
+                    return;
+                }
             }
         }
+        finally
+        {
+            tracer.end ();
+        }
     }
 
 
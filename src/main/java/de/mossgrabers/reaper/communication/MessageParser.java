@@ -13,6 +13,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.constants.ModelArea;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -142,9 +143,14 @@ public class MessageParser
             return;
 
         final String command = parts.poll ();
+        // The project parameters are sent as the parameters of the master track FX
+        final boolean isProjectParameter = "master".equals (command) && "fx".equals (parts.peek ());
 
         if (this.parseTransport (command, parts, value))
+        {
+            ((ModelImpl) this.model).notifyModelChangeObservers (ModelArea.TRANSPORT);
             return;
+        }
 
         switch (command)
         {
@@ -233,6 +239,40 @@ public class MessageParser
                 this.host.error ("Unhandled OSC address: " + osc + " " + value);
                 return;
         }
+
+        ((ModelImpl) this.model).notifyModelChangeObservers (getModelArea (command));
+        if (isProjectParameter)
+            ((ModelImpl) this.model).notifyModelChangeObservers (ModelArea.PROJECT);
+    }
+
+
+    private static ModelArea getModelArea (final String command)
+    {
+        switch (command)
+        {
+            case "click":
+                return ModelArea.TRANSPORT;
+            case "track":
+                return ModelArea.TRACK;
+            case "master":
+                return ModelArea.MASTER;
+            case "device", "primary", "eq":
+                return ModelArea.DEVICE;
+            case "clip":
+                return ModelArea.CLIP;
+            case "browser":
+                return ModelArea.BROWSER;
+            case "marker":
+                return ModelArea.MARKER;
+            case "scene":
+                return ModelArea.SCENE;
+            case "noterepeat":
+                return ModelArea.NOTE_REPEAT;
+            case "groove":
+                return ModelArea.GROOVE;
+            default:
+                return ModelArea.PROJECT;
+        }
     }
 
 
@@ -507,12 +547,15 @@ public class MessageParser
 
             case "depth":
                 track.setDepth (Integer.parseInt (value));
-                ((TrackBankImpl) this.model.getTrackBank ()).markDirty ();
+                // The master track is not part of the track tree
+                if (tb != null)
+                    tb.markDirty (track.getPosition ());
                 break;
 
             case TAG_ACTIVE:
                 track.setInternalIsActivated (Double.parseDouble (value) > 0);
-                ((TrackBankImpl) this.model.getTrackBank ()).markDirty ();
+                if (tb != null)
+                    tb.markDirty (track.getPosition ());
                 break;
 
             case "type":
@@ -609,7 +652,7 @@ public class MessageParser
 
             case "playingnotes":
                 if (tb != null)
-                    tb.handleNotes (track.getPosition (), Note.parseNotes (value));
+                    tb.handleNotes (track.getPosition (), value);
                 break;
 
             case "inQuantLengthEnabled":
@@ -8,6 +8,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.IControllerDefinition;
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.usb.UsbMatcher;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.TestCallback;
@@ -54,6 +55,7 @@ public abstract class AbstractControllerInstance<S extends IControlSurface<C>, C
     protected final WindowManager         windowManager;
     protected final BackendExchange       backend;
     protected final IniFiles              iniFiles;
+    protected final ModelEpoch            modelEpoch              = new ModelEpoch ();
     private int []                        hostVersion;
 
     protected HostImpl                    host;
@@ -171,8 +173,8 @@ public abstract class AbstractControllerInstance<S extends IControlSurface<C>, C
             if (matcher != null)
                 this.host.addUSBDeviceInfo (matcher);
 
-            final MidiAccessImpl midiAccess = new MidiAccessImpl (this.logModel, this.host, this.globalSettingsUI.getSelectedMidiInputs (), this.globalSettingsUI.getSelectedMidiOutputs ());
-            this.setupFactory = new ReaperSetupFactory (this.iniFiles, this.backend, this.host, midiAccess);
+            final MidiAccessImpl midiAccess = new MidiAccessImpl (this.logModel, this.host, this.modelEpoch, this.globalSettingsUI.getSelectedMidiInputs (), this.globalSettingsUI.getSelectedMidiOutputs ());
+            this.setupFactory = new ReaperSetupFactory (this.iniFiles, this.backend, this.host, this.modelEpoch, midiAccess);
             this.controllerSetup = this.createControllerSetup (this.setupFactory);
 
             SafeRunLater.execute (this.logModel, this::delayedStart);
@@ -264,6 +266,14 @@ public abstract class AbstractControllerInstance<S extends IControlSurface<C>, C
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ModelEpoch getModelEpoch ()
+    {
+        return this.modelEpoch;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush ()
@@ -273,6 +283,8 @@ public abstract class AbstractControllerInstance<S extends IControlSurface<C>, C
             if (!this.isEnabled () || !this.isRunning)
                 return;
 
+            if (this.setupFactory != null)
+                this.setupFactory.flush ();
             if (this.controllerSetup != null)
                 this.controllerSetup.flush ();
 
@@ -6,6 +6,7 @@ package de.mossgrabers.reaper.controller;
 
 import de.mossgrabers.framework.controller.IControllerDefinition;
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.reaper.communication.BackendExchange;
 import de.mossgrabers.reaper.controller.ableton.push.Push1ControllerInstance;
@@ -264,6 +265,19 @@ public class ControllerInstanceManager
     }
 
 
+    /**
+     * Get the epochs of the models of all controller instances.
+     *
+     * @return The model epochs
+     */
+    public List<ModelEpoch> getModelEpochs ()
+    {
+        final List<ModelEpoch> modelEpochs = new ArrayList<> (this.instances.size ());
+        this.instances.forEach (inst -> modelEpochs.add (inst.getModelEpoch ()));
+        return modelEpochs;
+    }
+
+
     /**
      * Parse an incoming DAW message into all configured controllers.
      *
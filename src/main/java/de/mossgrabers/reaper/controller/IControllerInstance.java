@@ -6,6 +6,7 @@ package de.mossgrabers.reaper.controller;
 
 import de.mossgrabers.framework.controller.IControllerDefinition;
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.reaper.framework.configuration.DocumentSettingsUI;
 import de.mossgrabers.reaper.framework.configuration.GlobalSettingsUI;
 
@@ -145,4 +146,13 @@ public interface IControllerInstance
      * @return The major and minor version
      */
     int [] getHostVersion ();
+
+
+    /**
+     * Get the epoch which marks the changes of the model of this instance. Stays the same if the
+     * instance is restarted.
+     *
+     * @return The model epoch
+     */
+    ModelEpoch getModelEpoch ();
 }
\ No newline at end of file
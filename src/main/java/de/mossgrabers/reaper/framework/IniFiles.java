@@ -36,8 +36,12 @@ public class IniFiles
     private String              iniPath;
     private LogModel            logModel;
 
+    private File                fxTagsFile;
+    private File                fxFoldersFile;
     private boolean             isFxTagsPresent;
     private boolean             isFxFoldersPresent;
+    private boolean             isFxTagsLoaded;
+    private boolean             isFxFoldersLoaded;
     private boolean             isParamMapsPresent;
     private String              paramMapsFilename;
     private File                reaperINIFile;
@@ -83,8 +87,15 @@ public class IniFiles
             this.reaperINIFile = new File (iniPath + File.separator + REAPER_MAIN2);
         this.loadReaperINI ();
 
-        this.isFxTagsPresent = this.loadINIFile (iniPath + File.separator + FX_TAGS, this.iniFxTags);
-        this.isFxFoldersPresent = this.loadINIFile (iniPath + File.separator + FX_FOLDERS, this.iniFxFolders);
+        // The FX tags and folders are only loaded when accessed since the device information
+        // might be read from the device cache instead
+        this.fxTagsFile = new File (iniPath + File.separator + FX_TAGS);
+        this.fxFoldersFile = new File (iniPath + File.separator + FX_FOLDERS);
+        this.isFxTagsPresent = this.isPresent (this.fxTagsFile);
+        this.isFxFoldersPresent = this.isPresent (this.fxFoldersFile);
+        this.isFxTagsLoaded = false;
+        this.isFxFoldersLoaded = false;
+
         this.paramMapsFilename = iniPath + File.separator + PARAM_MAPS;
         this.isParamMapsPresent = this.loadINIFile (this.paramMapsFilename, this.iniDeviceMaps);
     }
@@ -97,7 +108,26 @@ public class IniFiles
      */
     public IniEditor getIniFxTags ()
     {
-        return this.iniFxTags;
+        synchronized (this.iniFxTags)
+        {
+            if (this.isFxTagsPresent && !this.isFxTagsLoaded)
+            {
+                this.isFxTagsLoaded = true;
+                this.loadINIFile (this.fxTagsFile, this.iniFxTags);
+            }
+            return this.iniFxTags;
+        }
+    }
+
+
+    /**
+     * Get the file of the FX tags configuration.
+     *
+     * @return The file, might not exist
+     */
+    public File getFxTagsFile ()
+    {
+        return this.fxTagsFile;
     }
 
 
@@ -108,7 +138,26 @@ public class IniFiles
      */
     public IniEditor getIniFxFolders ()
     {
-        return this.iniFxFolders;
+        synchronized (this.iniFxFolders)
+        {
+            if (this.isFxFoldersPresent && !this.isFxFoldersLoaded)
+            {
+                this.isFxFoldersLoaded = true;
+                this.loadINIFile (this.fxFoldersFile, this.iniFxFolders);
+            }
+            return this.iniFxFolders;
+        }
+    }
+
+
+    /**
+     * Get the file of the FX folders configuration.
+     *
+     * @return The file, might not exist
+     */
+    public File getFxFoldersFile ()
+    {
+        return this.fxFoldersFile;
     }
 
 
@@ -137,7 +186,7 @@ public class IniFiles
     /**
      * Is the FX tags configuration file present?
      *
-     * @return True if successfully loaded
+     * @return True if present
      */
     public boolean isFxTagsPresent ()
     {
@@ -148,7 +197,7 @@ public class IniFiles
     /**
      * Is the FX folders configuration file present?
      *
-     * @return True if successfully loaded
+     * @return True if present
      */
     public boolean isFxFoldersPresent ()
     {
@@ -218,6 +267,21 @@ public class IniFiles
     }
 
 
+    /**
+     * Check if an INI file is present.
+     *
+     * @param file The file to check
+     * @return True if present
+     */
+    private boolean isPresent (final File file)
+    {
+        if (file.exists ())
+            return true;
+        this.logModel.info (file.getName () + " not present (this is not an error!).");
+        return false;
+    }
+
+
     /**
      * Load an INI file.
      *
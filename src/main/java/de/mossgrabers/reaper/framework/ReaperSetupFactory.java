@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
@@ -32,6 +33,7 @@ public class ReaperSetupFactory implements ISetupFactory
 {
     private final BackendExchange  sender;
     private final IHost          host;
+    private final ModelEpoch     modelEpoch;
     private final MidiAccessImpl midiAccess;
     private final IniFiles       iniFiles;
 
@@ -42,13 +44,15 @@ public class ReaperSetupFactory implements ISetupFactory
      * @param iniFiles The INI configuration files
      * @param sender The OSC sender
      * @param host The DAW host
+     * @param modelEpoch Marks the changes of the model
      * @param midiAccess Access to the selected MIDI ports
      */
-    public ReaperSetupFactory (final IniFiles iniFiles, final BackendExchange sender, final IHost host, final MidiAccessImpl midiAccess)
+    public ReaperSetupFactory (final IniFiles iniFiles, final BackendExchange sender, final IHost host, final ModelEpoch modelEpoch, final MidiAccessImpl midiAccess)
     {
         this.iniFiles = iniFiles;
         this.sender = sender;
         this.host = host;
+        this.modelEpoch = modelEpoch;
         this.midiAccess = midiAccess;
     }
 
@@ -62,11 +66,20 @@ public class ReaperSetupFactory implements ISetupFactory
     }
 
 
+    /**
+     * Hand the coalesced input of continuous controls to the controls.
+     */
+    public void flush ()
+    {
+        this.midiAccess.flush ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IModel createModel (final Configuration configuration, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
     {
-        final DataSetupEx dataSetup = new DataSetupEx (this.host, valueChanger, colorManager, this.sender);
+        final DataSetupEx dataSetup = new DataSetupEx (this.host, valueChanger, colorManager, this.modelEpoch, this.sender);
         return new ModelImpl (configuration, modelSetup, dataSetup, scales, this.iniFiles);
     }
 
@@ -49,14 +49,57 @@ public class TreeNode<T>
      * @return The created node
      */
     public TreeNode<T> addChild (final T child)
+    {
+        return this.addChild (this.children.size (), child);
+    }
+
+
+    /**
+     * Insert a child node into the children of the node.
+     *
+     * @param index The index at which to insert the child
+     * @param child The child content to add
+     * @return The created node
+     */
+    public TreeNode<T> addChild (final int index, final T child)
     {
         final TreeNode<T> childNode = new TreeNode<> (child);
         childNode.parent = this;
-        this.children.add (childNode);
+        this.children.add (index, childNode);
         return childNode;
     }
 
 
+    /**
+     * Remove a range of child nodes. The removed nodes are detached from the tree.
+     *
+     * @param fromIndex The index of the first child to remove (inclusive)
+     * @param toIndex The index of the last child to remove (exclusive)
+     */
+    public void removeChildren (final int fromIndex, final int toIndex)
+    {
+        final List<TreeNode<T>> range = this.children.subList (fromIndex, toIndex);
+        for (final TreeNode<T> child: range)
+            child.parent = null;
+        range.clear ();
+    }
+
+
+    /**
+     * Check if the node is part of the tree of the given root node.
+     *
+     * @param root The root node
+     * @return True if the root is reached by following the parents of the node
+     */
+    public boolean isInTree (final TreeNode<T> root)
+    {
+        TreeNode<T> node = this;
+        while (node.parent != null)
+            node = node.parent;
+        return node == root;
+    }
+
+
     /**
      * Get the parent of the node.
      *
@@ -10,6 +10,8 @@ import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.observer.IObserverManagement;
 import de.mossgrabers.reaper.communication.BackendExchange;
 import de.mossgrabers.reaper.communication.Processor;
+import de.mossgrabers.reaper.framework.daw.event.ChangeEventBus;
+import de.mossgrabers.reaper.framework.daw.event.ChangeField;
 
 
 /**
@@ -19,10 +21,11 @@ import de.mossgrabers.reaper.communication.Processor;
  */
 public abstract class BaseImpl implements IObserverManagement
 {
-    protected final DataSetupEx   dataSetup;
-    protected final IHost         host;
+    protected final DataSetupEx     dataSetup;
+    protected final IHost           host;
     protected final BackendExchange sender;
-    protected final IValueChanger valueChanger;
+    protected final IValueChanger   valueChanger;
+    private final ChangeEventBus    changeEventBus;
 
 
     /**
@@ -36,6 +39,7 @@ public abstract class BaseImpl implements IObserverManagement
         this.host = dataSetup != null ? dataSetup.getHost () : null;
         this.sender = dataSetup != null ? dataSetup.getSender () : null;
         this.valueChanger = dataSetup != null ? dataSetup.getValueChanger () : null;
+        this.changeEventBus = dataSetup != null ? dataSetup.getChangeEventBus () : null;
     }
 
 
@@ -100,5 +104,59 @@ public abstract class BaseImpl implements IObserverManagement
     }
 
 
+    /**
+     * Publish the change of a numeric field of this object to the subscribers of the change event
+     * bus. Does nothing if there are no subscribers.
+     *
+     * @param field The changed field
+     * @param value The new value
+     */
+    protected void publishChange (final ChangeField field, final double value)
+    {
+        if (this.changeEventBus != null && this.changeEventBus.hasSubscribers ())
+            this.changeEventBus.publish (this.getProcessor (), this.getChangePosition (), field, value);
+    }
+
+
+    /**
+     * Publish the change of a state of this object to the subscribers of the change event bus.
+     * Does nothing if there are no subscribers.
+     *
+     * @param field The changed field
+     * @param state The new state
+     */
+    protected void publishChange (final ChangeField field, final boolean state)
+    {
+        if (this.changeEventBus != null && this.changeEventBus.hasSubscribers ())
+            this.changeEventBus.publish (this.getProcessor (), this.getChangePosition (), field, state);
+    }
+
+
+    /**
+     * Publish the change of a text field of this object to the subscribers of the change event
+     * bus. Does nothing if there are no subscribers.
+     *
+     * @param field The changed field
+     * @param text The new text
+     */
+    protected void publishChange (final ChangeField field, final String text)
+    {
+        if (this.changeEventBus != null && this.changeEventBus.hasSubscribers ())
+            this.changeEventBus.publish (this.getProcessor (), this.getChangePosition (), field, text);
+    }
+
+
+    /**
+     * Get the position which identifies this object in change events together with its
+     * processor.
+     *
+     * @return The position, 0 for objects which exist only once
+     */
+    protected int getChangePosition ()
+    {
+        return 0;
+    }
+
+
     protected abstract Processor getProcessor ();
 }
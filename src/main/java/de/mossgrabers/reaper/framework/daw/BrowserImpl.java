@@ -21,6 +21,7 @@ import de.mossgrabers.reaper.framework.device.DeviceFileType;
 import de.mossgrabers.reaper.framework.device.DeviceManager;
 import de.mossgrabers.reaper.framework.device.DeviceMetadataImpl;
 import de.mossgrabers.reaper.framework.device.DeviceType;
+import de.mossgrabers.reaper.framework.device.TextSearchIndex;
 import de.mossgrabers.reaper.framework.device.column.BaseColumn;
 import de.mossgrabers.reaper.framework.device.column.DeviceCategoryFilterColumn;
 import de.mossgrabers.reaper.framework.device.column.DeviceCollectionFilterColumn;
@@ -39,7 +40,9 @@ import javax.swing.SwingUtilities;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -65,9 +68,10 @@ public class BrowserImpl extends AbstractBrowser
     /** Cached preset files. */
     private static class PresetFileCacheItem
     {
-        IniEditor iniFile = new IniEditor (true);
-        long      time;
-        String [] presets;
+        IniEditor       iniFile = new IniEditor (true);
+        long            time;
+        String []       presets;
+        TextSearchIndex searchIndex;
     }
 
 
@@ -100,6 +104,9 @@ public class BrowserImpl extends AbstractBrowser
     private boolean                                       isBrowserActive     = false;
 
     private final PresetModel                             presetModel         = new PresetModel ();
+    private String []                                     presets             = new String [0];
+    private TextSearchIndex                               presetSearchIndex;
+    private int []                                        presetIndices;
 
     int                                                   selectedIndex;
     List<DeviceMetadataImpl>                              filteredDevices     = Collections.emptyList ();
@@ -365,6 +372,14 @@ public class BrowserImpl extends AbstractBrowser
 
         this.enableObservers (true);
         this.insertPosition = insertPos;
+        this.searchText = "";
+        if (this.presetIndices != null)
+        {
+            synchronized (this.parsePresetFileLock)
+            {
+                this.updateFilteredPresets ();
+            }
+        }
         this.setContentType (contentType);
         this.isBrowserActive = true;
         this.fireActiveObserver (this.isBrowserActive);
@@ -397,7 +412,7 @@ public class BrowserImpl extends AbstractBrowser
                 case PRESET:
                     final int index = this.getSelectedResultIndex ();
                     if (index != -1)
-                        this.sender.processIntArg (Processor.DEVICE, "preset", index);
+                        this.sender.processIntArg (Processor.DEVICE, "preset", this.getPresetIndex (index));
                     break;
 
                 default:
@@ -457,6 +472,30 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setSearchText (final String searchText)
+    {
+        final String text = searchText == null ? "" : searchText;
+        if (this.searchText.equals (text))
+            return;
+        this.searchText = text;
+
+        this.selectedIndex = 0;
+        if (this.isPresetContentType ())
+        {
+            synchronized (this.parsePresetFileLock)
+            {
+                this.updateFilteredPresets ();
+            }
+        }
+        else
+            this.updateFilteredDevices (false);
+
+        SwingUtilities.invokeLater ( () -> this.browserWindow.updateResults (this.selectedIndex));
+    }
+
+
     /**
      * Select an item in the results.
      *
@@ -504,7 +543,39 @@ public class BrowserImpl extends AbstractBrowser
      */
     public void setPresetSelected (final int index)
     {
-        this.selectedIndex = index;
+        if (this.presetIndices == null)
+        {
+            this.selectedIndex = index;
+            return;
+        }
+
+        // The preset might be hidden by the search
+        this.selectedIndex = 0;
+        for (int i = 0; i < this.presetIndices.length; i++)
+        {
+            if (this.presetIndices[i] == index)
+            {
+                this.selectedIndex = i;
+                break;
+            }
+        }
+    }
+
+
+    /**
+     * Get the index of the selected preset to send to the DAW. Without a search this is the index
+     * of the result on the page, as before. With a search, the found presets are mapped back to
+     * their index in the preset file.
+     *
+     * @param index The index of the selected result on the page
+     * @return The index to send
+     */
+    private int getPresetIndex (final int index)
+    {
+        if (this.presetIndices == null)
+            return index;
+        final int resultIndex = this.translateBankIndexToPageOfSelectedIndex (index);
+        return resultIndex < this.presetIndices.length ? this.presetIndices[resultIndex] : resultIndex;
     }
 
 
@@ -528,7 +599,7 @@ public class BrowserImpl extends AbstractBrowser
         final String vendor = this.deviceCreatorFilterColumn.getCursorIndex () == 0 ? null : this.deviceCreatorFilterColumn.getCursorName ();
         final DeviceType type = this.deviceTypeFilterColumn.getCursorIndex () == 0 ? null : DeviceType.valueOf (this.deviceTypeFilterColumn.getCursorName ().toUpperCase (Locale.US).replace (' ', '_'));
 
-        this.filteredDevices = deviceManager.filterBy (fileType, category, vendor, folder, type);
+        this.filteredDevices = deviceManager.filterBy (fileType, category, vendor, folder, type, this.searchText);
 
         if (this.selectedIndex >= this.filteredDevices.size ())
             this.selectedIndex = 0;
@@ -669,8 +740,16 @@ public class BrowserImpl extends AbstractBrowser
                     presetFileCacheItem.iniFile.load (file.getAbsolutePath ());
                     final int presetCount = Integer.parseInt (presetFileCacheItem.iniFile.get ("General", "NbPresets"));
                     presetFileCacheItem.presets = new String [presetCount];
+                    final String [] [] texts = new String [presetCount] [];
                     for (int i = 0; i < presetCount; i++)
+                    {
                         presetFileCacheItem.presets[i] = presetFileCacheItem.iniFile.get ("Preset" + i, "Name");
+                        texts[i] = new String []
+                        {
+                            presetFileCacheItem.presets[i]
+                        };
+                    }
+                    presetFileCacheItem.searchIndex = new TextSearchIndex (texts);
                     presetFileCacheItem.time = file.lastModified ();
                 }
             }
@@ -679,11 +758,52 @@ public class BrowserImpl extends AbstractBrowser
                 throw new FrameworkException ("Could not load file: " + filename, ex);
             }
 
-            this.presetModel.clear ();
-            this.presetModel.addAll (Arrays.asList (presetFileCacheItem.presets));
-            this.presetModel.update ();
+            this.presets = presetFileCacheItem.presets;
+            this.presetSearchIndex = presetFileCacheItem.searchIndex;
+            this.updateFilteredPresets ();
 
             this.selectedIndex = 0;
         }
     }
+
+
+    /**
+     * Fill the preset model with the presets which match the search text. Must be called while
+     * holding the preset file lock.
+     */
+    private void updateFilteredPresets ()
+    {
+        this.presetModel.clear ();
+
+        if (this.searchText.isBlank () || this.presetSearchIndex == null)
+        {
+            this.presetIndices = null;
+            this.presetModel.addAll (Arrays.asList (this.presets));
+        }
+        else
+        {
+            // Show the presets first which start with the search text
+            final BitSet matches = this.presetSearchIndex.search (this.searchText);
+            final int [] indices = new int [matches.cardinality ()];
+            int count = 0;
+            for (int i = matches.nextSetBit (0); i >= 0; i = matches.nextSetBit (i + 1))
+            {
+                if (this.presetSearchIndex.isPrefix (i, this.searchText))
+                {
+                    indices[count++] = i;
+                    matches.clear (i);
+                }
+            }
+            for (int i = matches.nextSetBit (0); i >= 0; i = matches.nextSetBit (i + 1))
+                indices[count++] = i;
+
+            final List<String> names = new ArrayList<> (indices.length);
+            for (final int index: indices)
+                names.add (this.presets[index]);
+            this.presetIndices = indices;
+            this.presetModel.addAll (names);
+        }
+
+        this.presetModel.update ();
+    }
 }
\ No newline at end of file
@@ -8,8 +8,10 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.DataSetup;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.reaper.communication.BackendExchange;
 import de.mossgrabers.reaper.framework.daw.data.CursorTrackImpl;
+import de.mossgrabers.reaper.framework.daw.event.ChangeEventBus;
 
 
 /**
@@ -20,7 +22,8 @@ import de.mossgrabers.reaper.framework.daw.data.CursorTrackImpl;
 public class DataSetupEx extends DataSetup
 {
     private final BackendExchange sender;
-    private CursorTrackImpl     cursorTrack;
+    private final ChangeEventBus  changeEventBus = new ChangeEventBus ();
+    private CursorTrackImpl       cursorTrack;
 
 
     /**
@@ -29,11 +32,12 @@ public class DataSetupEx extends DataSetup
      * @param host The DAW host
      * @param valueChanger The value changer
      * @param colorManager The color manager
+     * @param modelEpoch Marks the changes of the model
      * @param sender The OSC sender
      */
-    public DataSetupEx (final IHost host, final IValueChanger valueChanger, final ColorManager colorManager, final BackendExchange sender)
+    public DataSetupEx (final IHost host, final IValueChanger valueChanger, final ColorManager colorManager, final ModelEpoch modelEpoch, final BackendExchange sender)
     {
-        super (host, valueChanger, colorManager);
+        super (host, valueChanger, colorManager, modelEpoch);
 
         this.sender = sender;
     }
@@ -50,6 +54,17 @@ public class DataSetupEx extends DataSetup
     }
 
 
+    /**
+     * Get the bus for subscribing to the changes of the model.
+     *
+     * @return The change event bus
+     */
+    public ChangeEventBus getChangeEventBus ()
+    {
+        return this.changeEventBus;
+    }
+
+
     /**
      * Set the cursor track.
      *
@@ -244,9 +244,9 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxPacketSize, final boolean useTimeTags, final boolean useTCP)
     {
-        final OpenSoundControlClientImpl client = new OpenSoundControlClientImpl (this, serverAddress, serverPort);
+        final OpenSoundControlClientImpl client = new OpenSoundControlClientImpl (this, serverAddress, serverPort, maxPacketSize, useTimeTags, useTCP);
         this.oscSenders.add (client);
         return client;
     }
@@ -254,9 +254,9 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback, final boolean useTCP)
     {
-        final OpenSoundControlServerImpl server = new OpenSoundControlServerImpl (callback, this.logModel);
+        final OpenSoundControlServerImpl server = new OpenSoundControlServerImpl (callback, this.logModel, this.controllerInstance.getModelEpoch (), useTCP);
         this.oscReceivers.add (server);
         return server;
     }
@@ -385,11 +385,15 @@ public class ModelImpl extends AbstractModel
         {
             final int trackIndex = Integer.parseInt (clipParts[pos++]);
             final TrackImpl track = tb.getUnpagedItem (trackIndex);
-            final SlotBankImpl slotBank = (SlotBankImpl) track.getSlotBank ();
 
             final int numClips = Integer.parseInt (clipParts[pos++]);
             if (numClips > maxSlotCount)
                 maxSlotCount = numClips;
+
+            // Do not create a slot bank for tracks without clips, it is created on first access
+            final SlotBankImpl slotBank = numClips > 0 ? (SlotBankImpl) track.getSlotBank () : track.getCreatedSlotBank ();
+            if (slotBank == null)
+                continue;
             slotBank.setItemCount (numClips);
 
             for (int i = 0; i < numClips; i++)
@@ -411,23 +415,8 @@ public class ModelImpl extends AbstractModel
             }
         }
 
-        // Set all scene banks to the same size
-        final int size = tb.getItemCount ();
-        for (int i = 0; i < size; i++)
-        {
-            final TrackImpl track = tb.getUnpagedItem (i);
-            final SlotBankImpl slotBank = (SlotBankImpl) track.getSlotBank ();
-
-            final int itemCount = slotBank.getItemCount ();
-            slotBank.setMaxSlotCount (maxSlotCount);
-
-            for (int slotIndex = itemCount; slotIndex < maxSlotCount; slotIndex++)
-            {
-                final SlotImpl slot = slotBank.getUnpagedItem (slotIndex);
-                slot.setExists (true);
-                slot.setHasContent (false);
-            }
-        }
+        // Set all scene banks to the same size, the empty slots are created when accessed
+        tb.setMaxSlotCount (maxSlotCount);
     }
 
 
@@ -0,0 +1,141 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * The currently playing notes of a track. Stored as a 128 bit mask of the playing pitches and the
+ * velocity of each playing note.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class PlayingNotes
+{
+    /** The number of 64 bit words of the mask. */
+    public static final int  WORDS      = 2;
+
+    private static final int NUM_NOTES  = 128;
+
+    private final long []    mask       = new long [WORDS];
+    private final byte []    velocities = new byte [NUM_NOTES];
+
+
+    /**
+     * Parses the playing notes from a string, replaces the current notes. Only the pitch and
+     * velocity are read, no note objects are created.
+     *
+     * @param notesStr Formatted like
+     *            selected1:muted1:start1:end1:channel1:pitch1:velocity1;...;selectedN:mutedN:startN:endN:channelN:pitchN:velocityN;
+     */
+    public void parse (final String notesStr)
+    {
+        this.clear ();
+        if (notesStr == null)
+            return;
+
+        final String notes = notesStr.trim ();
+        final int length = notes.length ();
+        int start = 0;
+        while (start < length)
+        {
+            int end = notes.indexOf (';', start);
+            if (end < 0)
+                end = length;
+
+            // Pitch and velocity are the last two fields of a note
+            final int velocityStart = notes.lastIndexOf (':', end - 1) + 1;
+            final int pitchStart = velocityStart > start + 1 ? notes.lastIndexOf (':', velocityStart - 2) + 1 : 0;
+            if (pitchStart > start)
+            {
+                final int pitch = Integer.parseInt (notes, pitchStart, velocityStart - 1, 10);
+                final int velocity = Integer.parseInt (notes, velocityStart, end, 10);
+                if (pitch >= 0 && pitch < NUM_NOTES)
+                    this.set (pitch, velocity);
+            }
+
+            start = end + 1;
+        }
+    }
+
+
+    /**
+     * Get the notes which differ from the given notes: notes which started, stopped or changed
+     * their velocity.
+     *
+     * @param other The notes to compare with
+     * @param word The index of the 64 bit word of the mask to compare
+     * @return The bits of the notes which differ
+     */
+    public long getChanges (final PlayingNotes other, final int word)
+    {
+        long changes = this.mask[word] ^ other.mask[word];
+
+        // Check the velocities of the notes which are playing in both
+        long playing = this.mask[word] & other.mask[word];
+        while (playing != 0)
+        {
+            final int bit = Long.numberOfTrailingZeros (playing);
+            final int note = word * 64 + bit;
+            if (this.velocities[note] != other.velocities[note])
+                changes |= 1L << bit;
+            playing &= playing - 1;
+        }
+        return changes;
+    }
+
+
+    /**
+     * Replace the notes with the given notes.
+     *
+     * @param other The notes to copy
+     */
+    public void set (final PlayingNotes other)
+    {
+        System.arraycopy (other.mask, 0, this.mask, 0, WORDS);
+        System.arraycopy (other.velocities, 0, this.velocities, 0, NUM_NOTES);
+    }
+
+
+    /**
+     * Check if a note is playing.
+     *
+     * @param note The note (0-127)
+     * @return True if playing
+     */
+    public boolean isPlaying (final int note)
+    {
+        return (this.mask[note >> 6] & 1L << (note & 63)) != 0;
+    }
+
+
+    /**
+     * Get the velocity of a note.
+     *
+     * @param note The note (0-127)
+     * @return The velocity, 0 if the note is not playing
+     */
+    public int getVelocity (final int note)
+    {
+        return this.isPlaying (note) ? this.velocities[note] : 0;
+    }
+
+
+    /**
+     * Remove all notes.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.mask, 0);
+    }
+
+
+    private void set (final int note, final int velocity)
+    {
+        this.mask[note >> 6] |= 1L << (note & 63);
+        this.velocities[note] = (byte) Math.max (0, Math.min (127, velocity));
+    }
+}
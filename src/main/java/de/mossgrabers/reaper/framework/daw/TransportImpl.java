@@ -19,6 +19,7 @@ import de.mossgrabers.reaper.framework.daw.data.MasterTrackImpl;
 import de.mossgrabers.reaper.framework.daw.data.TrackImpl;
 import de.mossgrabers.reaper.framework.daw.data.parameter.MetronomeVolumeParameterImpl;
 import de.mossgrabers.reaper.framework.daw.data.parameter.TempoParameterImpl;
+import de.mossgrabers.reaper.framework.daw.event.ChangeField;
 
 import java.text.DecimalFormat;
 import java.util.Map;
@@ -228,7 +229,10 @@ public class TransportImpl extends BaseImpl implements ITransport
      */
     public void setMetronomeState (final boolean on)
     {
+        if (this.isMetronomeOn == on)
+            return;
         this.isMetronomeOn = on;
+        this.publishChange (ChangeField.METRONOME, on);
     }
 
 
@@ -1061,7 +1065,10 @@ public class TransportImpl extends BaseImpl implements ITransport
      */
     public void setPlayState (final boolean isPlaying)
     {
+        if (this.isPlaying == isPlaying)
+            return;
         this.isPlaying = isPlaying;
+        this.publishChange (ChangeField.PLAY, isPlaying);
     }
 
 
@@ -1072,7 +1079,10 @@ public class TransportImpl extends BaseImpl implements ITransport
      */
     public void setRecordState (final boolean isRecording)
     {
+        if (this.isRecording == isRecording)
+            return;
         this.isRecording = isRecording;
+        this.publishChange (ChangeField.RECORD, isRecording);
     }
 
 
@@ -1083,7 +1093,10 @@ public class TransportImpl extends BaseImpl implements ITransport
      */
     public void setLoopingState (final boolean isLooping)
     {
+        if (this.isLooping == isLooping)
+            return;
         this.isLooping = isLooping;
+        this.publishChange (ChangeField.LOOP, isLooping);
     }
 
 
@@ -1094,7 +1107,10 @@ public class TransportImpl extends BaseImpl implements ITransport
      */
     public void setNumerator (final int numerator)
     {
+        if (this.numerator == numerator)
+            return;
         this.numerator = numerator;
+        this.publishChange (ChangeField.NUMERATOR, numerator);
     }
 
 
@@ -1105,7 +1121,10 @@ public class TransportImpl extends BaseImpl implements ITransport
      */
     public void setDenominator (final int denominator)
     {
+        if (this.denominator == denominator)
+            return;
         this.denominator = denominator;
+        this.publishChange (ChangeField.DENOMINATOR, denominator);
     }
 
 
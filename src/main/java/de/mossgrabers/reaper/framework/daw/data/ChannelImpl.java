@@ -18,6 +18,7 @@ import de.mossgrabers.reaper.framework.daw.data.bank.SendBankImpl;
 import de.mossgrabers.reaper.framework.daw.data.parameter.PanningParameterImpl;
 import de.mossgrabers.reaper.framework.daw.data.parameter.ParameterImpl;
 import de.mossgrabers.reaper.framework.daw.data.parameter.VolumeParameterImpl;
+import de.mossgrabers.reaper.framework.daw.event.ChangeField;
 import de.mossgrabers.reaper.framework.device.DeviceMetadataImpl;
 
 import java.util.HashSet;
@@ -625,7 +626,10 @@ public class ChannelImpl extends ItemImpl implements IChannel
      */
     public void setMuteState (final boolean isMute)
     {
+        if (this.isMute == isMute)
+            return;
         this.isMute = isMute;
+        this.publishChange (ChangeField.MUTE, isMute);
     }
 
 
@@ -636,7 +640,10 @@ public class ChannelImpl extends ItemImpl implements IChannel
      */
     public void setSoloState (final boolean isSolo)
     {
+        if (this.isSolo == isSolo)
+            return;
         this.isSolo = isSolo;
+        this.publishChange (ChangeField.SOLO, isSolo);
     }
 
 
@@ -647,7 +654,10 @@ public class ChannelImpl extends ItemImpl implements IChannel
      */
     public void setInternalIsActivated (final boolean isActivated)
     {
+        if (this.isActivated == isActivated)
+            return;
         this.isActivated = isActivated;
+        this.publishChange (ChangeField.ACTIVATED, isActivated);
     }
 
 
@@ -658,8 +668,14 @@ public class ChannelImpl extends ItemImpl implements IChannel
      */
     public void setColorState (final double [] color)
     {
+        final ColorEx previousColor = this.color;
         this.color = new ColorEx (color);
         this.colorObservers.forEach (observer -> observer.update (this.color));
+
+        // The color is sent again with every update, only publish real changes
+        final int encodedColor = this.color.encode ();
+        if (previousColor == null || previousColor.encode () != encodedColor)
+            this.publishChange (ChangeField.COLOR, encodedColor);
     }
 
 
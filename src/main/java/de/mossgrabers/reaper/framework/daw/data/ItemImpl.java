@@ -9,6 +9,7 @@ import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.reaper.framework.daw.BaseImpl;
 import de.mossgrabers.reaper.framework.daw.DataSetupEx;
+import de.mossgrabers.reaper.framework.daw.event.ChangeField;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -58,7 +59,10 @@ public abstract class ItemImpl extends BaseImpl implements IItem
      */
     public void setExists (final boolean exists)
     {
+        if (this.exists == exists)
+            return;
         this.exists = exists;
+        this.publishChange (ChangeField.EXISTS, exists);
     }
 
 
@@ -145,6 +149,7 @@ public abstract class ItemImpl extends BaseImpl implements IItem
 
         this.name = name == null ? "" : name;
         this.nameObservers.forEach (observer -> observer.update (this.name));
+        this.publishChange (ChangeField.NAME, this.name);
     }
 
 
@@ -160,7 +165,10 @@ public abstract class ItemImpl extends BaseImpl implements IItem
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.publishChange (ChangeField.SELECTED, isSelected);
     }
 
 
@@ -220,4 +228,12 @@ public abstract class ItemImpl extends BaseImpl implements IItem
     {
         return this.getPosition () + "/" + command;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getChangePosition ()
+    {
+        return this.getPosition ();
+    }
 }
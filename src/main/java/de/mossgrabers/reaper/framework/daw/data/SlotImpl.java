@@ -21,11 +21,13 @@ import de.mossgrabers.reaper.framework.daw.DataSetupEx;
  */
 public class SlotImpl extends ItemImpl implements ISlot
 {
-    private final ITrack     track;
-    private boolean          hasContent;
-    private boolean          isMuted;
-    private ColorEx          color = new ColorEx (0.2, 0.2, 0.2);
-    private final ISceneBank sceneBank;
+    private static final ColorEx DEFAULT_COLOR = new ColorEx (0.2, 0.2, 0.2);
+
+    private final ITrack         track;
+    private boolean              hasContent;
+    private boolean              isMuted;
+    private ColorEx              color         = DEFAULT_COLOR;
+    private final ISceneBank     sceneBank;
 
 
     /**
@@ -12,12 +12,13 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.reaper.communication.Processor;
 import de.mossgrabers.reaper.framework.daw.DataSetupEx;
+import de.mossgrabers.reaper.framework.daw.PlayingNotes;
 import de.mossgrabers.reaper.framework.daw.data.bank.AbstractTrackBankImpl;
 import de.mossgrabers.reaper.framework.daw.data.bank.ParameterBankImpl;
-import de.mossgrabers.reaper.framework.daw.data.bank.SceneBankImpl;
 import de.mossgrabers.reaper.framework.daw.data.bank.SlotBankImpl;
 import de.mossgrabers.reaper.framework.daw.data.bank.TrackBankImpl;
 import de.mossgrabers.reaper.framework.daw.data.parameter.ParameterImpl;
+import de.mossgrabers.reaper.framework.daw.event.ChangeField;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -46,13 +47,16 @@ public class TrackImpl extends ChannelImpl implements ITrack
     private boolean                       isRecArm;
     private boolean                       monitor;
     private boolean                       autoMonitor;
-    private final ISlotBank               slotBank;
+    private volatile SlotBankImpl         slotBank;
     private int                           depth;
     private boolean                       recordQuantizationNoteLength;
     private RecordQuantization            recordQuantization = RecordQuantization.RES_OFF;
     private final IParameter              crossfadeParameter;
     private boolean                       isOverdub          = false;
-    private final ParameterBankImpl       parameterBank;
+    private volatile ParameterBankImpl    parameterBank;
+    private final int                     numScenes;
+    private final int                     numParams;
+    private PlayingNotes                  playingNotes;
 
 
     /**
@@ -71,9 +75,9 @@ public class TrackImpl extends ChannelImpl implements ITrack
         super (dataSetup, index, numSends);
 
         this.trackBank = trackBank;
-        this.slotBank = new SlotBankImpl (dataSetup, (SceneBankImpl) trackBank.getSceneBank (), this, numScenes);
+        this.numScenes = numScenes;
+        this.numParams = numParams;
         this.crossfadeParameter = new CrossfadeParameter (this.valueChanger, index);
-        this.parameterBank = numParams > 0 ? new ParameterBankImpl (dataSetup, Processor.TRACK, numParams, null) : null;
     }
 
 
@@ -95,9 +99,9 @@ public class TrackImpl extends ChannelImpl implements ITrack
         super (dataSetup, index, numSends, volumeParameter, panParameter);
 
         this.trackBank = trackBank;
-        this.slotBank = new SlotBankImpl (dataSetup, (SceneBankImpl) trackBank.getSceneBank (), this, numScenes);
+        this.numScenes = numScenes;
+        this.numParams = numParams;
         this.crossfadeParameter = new CrossfadeParameter (this.valueChanger, index);
-        this.parameterBank = numParams > 0 ? new ParameterBankImpl (dataSetup, Processor.TRACK, numParams, null) : null;
     }
 
 
@@ -354,7 +358,10 @@ public class TrackImpl extends ChannelImpl implements ITrack
      */
     public void setRecArmState (final boolean isRecArm)
     {
+        if (this.isRecArm == isRecArm)
+            return;
         this.isRecArm = isRecArm;
+        this.publishChange (ChangeField.REC_ARM, isRecArm);
     }
 
 
@@ -477,11 +484,55 @@ public class TrackImpl extends ChannelImpl implements ITrack
     /** {@inheritDoc} */
     @Override
     public ISlotBank getSlotBank ()
+    {
+        // The slot bank is only created on first access since there might be thousands of tracks
+        SlotBankImpl bank = this.slotBank;
+        if (bank == null)
+        {
+            synchronized (this)
+            {
+                bank = this.slotBank;
+                if (bank == null)
+                {
+                    bank = this.trackBank.createSlotBank (this, this.numScenes);
+                    this.slotBank = bank;
+                }
+            }
+        }
+        return bank;
+    }
+
+
+    /**
+     * Get the slot bank if it was already created.
+     *
+     * @return The slot bank or null if it was not accessed yet
+     */
+    public SlotBankImpl getCreatedSlotBank ()
     {
         return this.slotBank;
     }
 
 
+    /**
+     * Release the slot bank if it contains no clips, e.g. when the track is no longer visible. It
+     * is re-created when accessed again.
+     *
+     * @return The released slot bank or null if there is none or it is still in use
+     */
+    public SlotBankImpl releaseSlotBank ()
+    {
+        synchronized (this)
+        {
+            final SlotBankImpl bank = this.slotBank;
+            if (bank == null || !bank.releaseEmptySlots () || bank.hasObservers ())
+                return null;
+            this.slotBank = null;
+            return bank;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void createClip (final int slotIndex, final int lengthInBeats)
@@ -500,6 +551,20 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /**
+     * Get the currently playing notes of the track. Created on first access since only few tracks
+     * play notes.
+     *
+     * @return The playing notes
+     */
+    public PlayingNotes getPlayingNotes ()
+    {
+        if (this.playingNotes == null)
+            this.playingNotes = new PlayingNotes ();
+        return this.playingNotes;
+    }
+
+
     /**
      * Get the track wide parameter bank.
      *
@@ -507,7 +572,39 @@ public class TrackImpl extends ChannelImpl implements ITrack
      */
     public IParameterBank getParameterBank ()
     {
-        return this.parameterBank;
+        if (this.numParams <= 0)
+            return null;
+
+        // Only created on first access, which is usually only the case for the selected track
+        ParameterBankImpl bank = this.parameterBank;
+        if (bank == null)
+        {
+            synchronized (this)
+            {
+                bank = this.parameterBank;
+                if (bank == null)
+                {
+                    bank = new ParameterBankImpl (this.dataSetup, Processor.TRACK, this.numParams, null);
+                    this.parameterBank = bank;
+                }
+            }
+        }
+        return bank;
+    }
+
+
+    /**
+     * Release the parameter bank if the track is not selected, since only the parameters of the
+     * selected track are updated. It is re-created when accessed again.
+     */
+    public void releaseParameterBank ()
+    {
+        synchronized (this)
+        {
+            final ParameterBankImpl bank = this.parameterBank;
+            if (bank != null && !this.isSelected () && !bank.hasObservers ())
+                this.parameterBank = null;
+        }
     }
 
 
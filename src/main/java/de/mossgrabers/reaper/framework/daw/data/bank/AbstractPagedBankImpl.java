@@ -7,12 +7,14 @@ package de.mossgrabers.reaper.framework.daw.data.bank;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.reaper.framework.daw.DataSetupEx;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
- * An abstract bank which supports paging of items.
+ * An abstract bank which supports paging of items. The created items are additionally published as
+ * an array, which allows to read them without locking. Banks which share their items with another
+ * bank also share the published array.
  *
  * @param <S> The internal specific item type of the bank item
  * @param <T> The specific item type of the bank item
@@ -21,8 +23,9 @@ import java.util.Optional;
  */
 public abstract class AbstractPagedBankImpl<S extends T, T extends IItem> extends AbstractBankImpl<T>
 {
-    protected final T emptyItem;
-    protected int     bankOffset = 0;
+    protected final T                        emptyItem;
+    protected int                            bankOffset = 0;
+    private final AtomicReference<Object []> itemSnapshot;
 
 
     /**
@@ -37,6 +40,7 @@ public abstract class AbstractPagedBankImpl<S extends T, T extends IItem> extend
         super (dataSetup, pageSize);
 
         this.emptyItem = emptyItem;
+        this.itemSnapshot = new AtomicReference<> (new Object [0]);
     }
 
 
@@ -46,13 +50,14 @@ public abstract class AbstractPagedBankImpl<S extends T, T extends IItem> extend
      * @param dataSetup Some configuration variables
      * @param pageSize The number of elements in a page of the bank
      * @param emptyItem The empty item object
-     * @param items The pre-configured bank items
+     * @param bank The bank with which to share the items
      */
-    protected AbstractPagedBankImpl (final DataSetupEx dataSetup, final int pageSize, final T emptyItem, final List<T> items)
+    protected AbstractPagedBankImpl (final DataSetupEx dataSetup, final int pageSize, final T emptyItem, final AbstractPagedBankImpl<S, T> bank)
     {
-        super (dataSetup, pageSize, items);
+        super (dataSetup, pageSize, bank.items);
 
         this.emptyItem = emptyItem;
+        this.itemSnapshot = bank.itemSnapshot;
     }
 
 
@@ -104,6 +109,10 @@ public abstract class AbstractPagedBankImpl<S extends T, T extends IItem> extend
     @SuppressWarnings("unchecked")
     public S getUnpagedItem (final int position)
     {
+        final Object [] snapshot = this.itemSnapshot.get ();
+        if (position >= 0 && position < snapshot.length)
+            return (S) snapshot[position];
+
         synchronized (this.items)
         {
             final int size = this.items.size ();
@@ -113,11 +122,24 @@ public abstract class AbstractPagedBankImpl<S extends T, T extends IItem> extend
                 for (int i = 0; i < diff; i++)
                     this.items.add (this.createItem (size + i));
             }
+            this.itemSnapshot.set (this.items.toArray ());
             return (S) this.items.get (position);
         }
     }
 
 
+    /**
+     * Publish the current items again. Must be called if items are removed from the item list.
+     */
+    protected void updateItemSnapshot ()
+    {
+        synchronized (this.items)
+        {
+            this.itemSnapshot.set (this.items.toArray ());
+        }
+    }
+
+
     /**
      * Create a new item for the given position in the bank.
      *
@@ -20,8 +20,10 @@ import de.mossgrabers.reaper.framework.daw.DataSetupEx;
 import de.mossgrabers.reaper.framework.daw.data.TrackImpl;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -38,6 +40,8 @@ public abstract class AbstractTrackBankImpl extends AbstractPagedBankImpl<TrackI
     private final int             numSends;
     private final int             numParams;
     private final ISceneBank      sceneBank;
+    private int                   slotBankOffset;
+    private int                   maxSlotCount;
 
 
     /**
@@ -74,6 +78,41 @@ public abstract class AbstractTrackBankImpl extends AbstractPagedBankImpl<TrackI
     }
 
 
+    /**
+     * Create the slot bank of a track. Called when the slot bank is accessed for the first time.
+     *
+     * @param track The track
+     * @param numSlots The number of slots in a page of the bank
+     * @return The slot bank
+     */
+    public SlotBankImpl createSlotBank (final TrackImpl track, final int numSlots)
+    {
+        final SlotBankImpl slotBank = new SlotBankImpl (this.dataSetup, (SceneBankImpl) this.sceneBank, track, numSlots);
+        slotBank.setMaxSlotCount (this.maxSlotCount);
+        slotBank.setBankOffset (this.slotBankOffset);
+        return slotBank;
+    }
+
+
+    /**
+     * Sets the maximum number of slots over all tracks on all slot banks.
+     *
+     * @param maxSlotCount The maximum number of slots
+     */
+    public void setMaxSlotCount (final int maxSlotCount)
+    {
+        this.maxSlotCount = maxSlotCount;
+
+        final int trackCount = this.items.size ();
+        for (int position = 0; position < trackCount; position++)
+        {
+            final SlotBankImpl slotBank = this.getUnpagedItem (position).getCreatedSlotBank ();
+            if (slotBank != null)
+                slotBank.setMaxSlotCount (maxSlotCount);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void pageAdjusted ()
@@ -224,9 +263,63 @@ public abstract class AbstractTrackBankImpl extends AbstractPagedBankImpl<TrackI
 
     protected void updateSlotBanks (final int slotBankOffset)
     {
+        this.slotBankOffset = slotBankOffset;
+
+        final int trackCount = this.items.size ();
+        for (int position = 0; position < trackCount; position++)
+        {
+            final SlotBankImpl slotBank = this.getUnpagedItem (position).getCreatedSlotBank ();
+            if (slotBank != null)
+                slotBank.setBankOffset (slotBankOffset);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setBankOffset (final int bankOffset)
+    {
+        super.setBankOffset (bankOffset);
+
+        this.releaseHiddenBanks ();
+    }
+
+
+    /**
+     * Get an item of the current page without updating the bank.
+     *
+     * @param index The index of the item on the page
+     * @return The item
+     */
+    protected ITrack getPageItem (final int index)
+    {
+        return this.getItem (index);
+    }
+
+
+    /**
+     * Release the empty slots and the parameters of all tracks which are not on the current page.
+     * Slot banks without clips and the parameter banks of tracks which are not selected are
+     * released completely.
+     */
+    private void releaseHiddenBanks ()
+    {
+        final int pageSize = this.getPageSize ();
+        final Set<ITrack> visibleTracks = Collections.newSetFromMap (new IdentityHashMap<> (pageSize));
+        for (int i = 0; i < pageSize; i++)
+            visibleTracks.add (this.getPageItem (i));
+
         final int trackCount = this.items.size ();
         for (int position = 0; position < trackCount; position++)
-            ((SlotBankImpl) this.getUnpagedItem (position).getSlotBank ()).setBankOffset (slotBankOffset);
+        {
+            final TrackImpl track = this.getUnpagedItem (position);
+            if (visibleTracks.contains (track))
+                continue;
+            final SlotBankImpl slotBank = track.releaseSlotBank ();
+            if (slotBank != null)
+                ResizedSlotBank.removeResizedBank (slotBank);
+            track.releaseParameterBank ();
+        }
     }
 
 
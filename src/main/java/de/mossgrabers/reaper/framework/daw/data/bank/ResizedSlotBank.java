@@ -272,6 +272,20 @@ public class ResizedSlotBank implements ISlotBank
     }
 
 
+    /**
+     * Remove the resized bank of a released slot bank.
+     *
+     * @param slotBank The released slot bank
+     */
+    static void removeResizedBank (final ISlotBank slotBank)
+    {
+        synchronized (resizedBanks)
+        {
+            resizedBanks.remove (slotBank);
+        }
+    }
+
+
     private ISlotBank getResizedBank ()
     {
         // This points to the slot bank of a track object and is only redirected via the cursor
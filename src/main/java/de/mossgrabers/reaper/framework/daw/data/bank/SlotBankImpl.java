@@ -18,7 +18,8 @@ import java.util.Optional;
 
 
 /**
- * Encapsulates the data of a slot bank.
+ * Encapsulates the data of a slot bank. Slots without content (which fill up the bank to the
+ * maximum number of slots of all tracks) are only created when accessed and can be released again.
  *
  * @author Jürgen Moßgraber
  */
@@ -53,7 +54,7 @@ public class SlotBankImpl extends AbstractPagedBankImpl<SlotImpl, ISlot> impleme
      */
     protected SlotBankImpl (final SlotBankImpl slotBankImpl, final int numSlots)
     {
-        super (slotBankImpl.dataSetup, numSlots, EmptySlot.INSTANCE, slotBankImpl.items);
+        super (slotBankImpl.dataSetup, numSlots, EmptySlot.INSTANCE, slotBankImpl);
 
         this.sceneBank = slotBankImpl.sceneBank;
         this.track = slotBankImpl.track;
@@ -64,7 +65,10 @@ public class SlotBankImpl extends AbstractPagedBankImpl<SlotImpl, ISlot> impleme
     @Override
     protected SlotImpl createItem (final int position)
     {
-        return new SlotImpl (this.dataSetup, this.track, this.pageSize == 0 ? 0 : position % this.pageSize, this.sceneBank);
+        final SlotImpl slot = new SlotImpl (this.dataSetup, this.track, this.pageSize == 0 ? 0 : position % this.pageSize, this.sceneBank);
+        // Slots in the range of the bank exist, the slots with content are set from the clip data
+        slot.setExists (position < this.getItemCount ());
+        return slot;
     }
 
 
@@ -135,9 +139,32 @@ public class SlotBankImpl extends AbstractPagedBankImpl<SlotImpl, ISlot> impleme
     public void setMaxSlotCount (final int maxSlotCount)
     {
         // Make sure that there are no 'old' entries in the list if we increase it
-        while (this.items.size () > this.itemCount)
-            this.items.remove (this.items.size () - 1);
+        synchronized (this.items)
+        {
+            while (this.items.size () > this.itemCount)
+                this.items.remove (this.items.size () - 1);
+            this.updateItemSnapshot ();
+        }
 
         this.itemCount = maxSlotCount;
     }
+
+
+    /**
+     * Removes the slots without content at the end of the bank, e.g. when the track is no longer
+     * visible. They are re-created when accessed again.
+     *
+     * @return True if no slots are left
+     */
+    public boolean releaseEmptySlots ()
+    {
+        synchronized (this.items)
+        {
+            int size = this.items.size ();
+            while (size > 0 && !this.items.get (size - 1).hasContent () && !this.items.get (size - 1).isSelected ())
+                this.items.remove (--size);
+            this.updateItemSnapshot ();
+            return size == 0;
+        }
+    }
 }
\ No newline at end of file
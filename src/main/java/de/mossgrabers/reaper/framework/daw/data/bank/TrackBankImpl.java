@@ -16,12 +16,13 @@ import de.mossgrabers.reaper.communication.Processor;
 import de.mossgrabers.reaper.framework.TreeNode;
 import de.mossgrabers.reaper.framework.daw.ApplicationImpl;
 import de.mossgrabers.reaper.framework.daw.DataSetupEx;
-import de.mossgrabers.reaper.framework.daw.Note;
+import de.mossgrabers.reaper.framework.daw.PlayingNotes;
 import de.mossgrabers.reaper.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.reaper.framework.daw.data.MasterTrackImpl;
 import de.mossgrabers.reaper.framework.daw.data.TrackImpl;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -30,29 +31,35 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * A track bank of all instrument and audio tracks.
+ * A track bank of all instrument and audio tracks. The tracks are organized in a tree of folders
+ * (or a flat list). If only the depth or activation of some tracks changes, only the affected top
+ * level folders (or entries of the flat list) are updated.
+ * <p>
+ * The tracks of the current folder (or the flat list) are published as an immutable array after
+ * each change, therefore reading the items of the bank does not require a lock. All changes of the
+ * tree are synchronized on the dirty flag.
  *
  * @author Jürgen Moßgraber
  */
 public class TrackBankImpl extends AbstractTrackBankImpl
 {
-    protected static final int       NOTE_OFF      = 0;
-    protected static final int       NOTE_ON       = 1;
-    protected static final int       NOTE_ON_NEW   = 2;
-
     private final List<IDrumDevice>  drumDevices;
     private final boolean            hasFlatTrackList;
     private final boolean            hasFullFlatTrackList;
 
     private boolean                  skipDisabledItems;
     private final AtomicBoolean      isDirty       = new AtomicBoolean (false);
+    private boolean                  isFullRecalc  = false;
+    private final BitSet             dirtyTracks   = new BitSet ();
     private final Set<INoteObserver> noteObservers = new HashSet<> ();
-    private final int []             noteCache     = new int [128];
+    private final PlayingNotes       receivedNotes = new PlayingNotes ();
 
     private TrackImpl                master;
     private final List<TrackImpl>    flatTracks    = new ArrayList<> ();
     private TreeNode<TrackImpl>      rootTrack     = new TreeNode<> ();
     private TreeNode<TrackImpl>      currentFolder = this.rootTrack;
+    private int                      nextRootIndex;
+    private volatile TrackImpl []    visibleTracks = new TrackImpl [0];
 
 
     /**
@@ -130,22 +137,33 @@ public class TrackBankImpl extends AbstractTrackBankImpl
         if (this.hasFlatTrackList)
             return;
 
-        final List<TreeNode<TrackImpl>> tracks = this.currentFolder.getChildren ();
-        // Find the selected track in the current children, which has to be a group
-        for (final TreeNode<TrackImpl> node: tracks)
+        this.recalcTrackList ();
+
+        synchronized (this.isDirty)
         {
-            final TrackImpl data = node.getData ();
-            if (data.isSelected () && data.isGroup ())
+            final List<TreeNode<TrackImpl>> tracks = this.currentFolder.getChildren ();
+            // Find the selected track in the current children, which has to be a group
+            TreeNode<TrackImpl> folder = null;
+            for (final TreeNode<TrackImpl> node: tracks)
             {
-                // Make the found track the new current folder
-                this.currentFolder = node;
-                final List<TreeNode<TrackImpl>> children = node.getChildren ();
-                if (!children.isEmpty ())
-                    children.get (0).getData ().select ();
-                this.firePageObserver ();
-                break;
+                final TrackImpl data = node.getData ();
+                if (data.isSelected () && data.isGroup ())
+                {
+                    folder = node;
+                    break;
+                }
             }
+            if (folder == null)
+                return;
+
+            // Make the found track the new current folder
+            this.currentFolder = folder;
+            this.publishVisibleTracks ();
+            final List<TreeNode<TrackImpl>> children = folder.getChildren ();
+            if (!children.isEmpty ())
+                children.get (0).getData ().select ();
         }
+        this.firePageObserver ();
     }
 
 
@@ -156,9 +174,16 @@ public class TrackBankImpl extends AbstractTrackBankImpl
         if (this.hasFlatTrackList)
             return;
 
-        final TrackImpl previousFolder = this.currentFolder.getData ();
-        final TreeNode<TrackImpl> parent = this.currentFolder.getParent ();
-        this.currentFolder = parent == null ? this.rootTrack : parent;
+        this.recalcTrackList ();
+
+        final TrackImpl previousFolder;
+        synchronized (this.isDirty)
+        {
+            previousFolder = this.currentFolder.getData ();
+            final TreeNode<TrackImpl> parent = this.currentFolder.getParent ();
+            this.currentFolder = parent == null ? this.rootTrack : parent;
+            this.publishVisibleTracks ();
+        }
         if (previousFolder != null)
             previousFolder.select ();
         this.firePageObserver ();
@@ -179,7 +204,8 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     {
         if (this.hasFlatTrackList && this.hasFullFlatTrackList)
         {
-            if (this.flatTracks.get (position) instanceof final MasterTrackImpl master)
+            final TrackImpl [] tracks = this.visibleTracks;
+            if (position >= 0 && position < tracks.length && tracks[position] instanceof final MasterTrackImpl master)
             {
                 master.select ();
                 return;
@@ -204,7 +230,7 @@ public class TrackBankImpl extends AbstractTrackBankImpl
             {
                 final int position;
                 if (track instanceof IMasterTrack)
-                    position = this.hasFullFlatTrackList && this.master != null ? this.flatTracks.size () - 1 : -1;
+                    position = this.hasFullFlatTrackList && this.master != null ? this.getItemCount () - 1 : -1;
                 else
                     position = track.getPosition ();
 
@@ -220,7 +246,12 @@ public class TrackBankImpl extends AbstractTrackBankImpl
 
             // Find the selected track in the tree, focus the page and select its parent as the new
             // folder
-            this.findSelectedTrack (this.rootTrack);
+            this.recalcTrackList ();
+            synchronized (this.isDirty)
+            {
+                this.findSelectedTrack (this.rootTrack);
+                this.publishVisibleTracks ();
+            }
         }
 
         this.notifySelectionObservers (track.getIndex (), isSelected);
@@ -301,13 +332,17 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     {
         this.recalcTrackList ();
 
-        final int id = this.bankOffset + index;
+        return this.getPageItem (index);
+    }
 
-        if (this.hasFlatTrackList)
-            return id >= 0 && id < this.flatTracks.size () ? this.flatTracks.get (id) : this.emptyItem;
 
-        final List<TreeNode<TrackImpl>> children = this.currentFolder.getChildren ();
-        return id < children.size () ? children.get (id).getData () : this.emptyItem;
+    /** {@inheritDoc} */
+    @Override
+    protected ITrack getPageItem (final int index)
+    {
+        final int id = this.bankOffset + index;
+        final TrackImpl [] tracks = this.visibleTracks;
+        return id >= 0 && id < tracks.length ? tracks[id] : this.emptyItem;
     }
 
 
@@ -317,10 +352,7 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     {
         this.recalcTrackList ();
 
-        if (this.hasFlatTrackList)
-            return this.flatTracks.size ();
-
-        return this.currentFolder.getChildren ().size ();
+        return this.visibleTracks.length;
     }
 
 
@@ -357,28 +389,44 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     /**
      * Notify all registered note observers.
      *
-     * @param trackPosition The track position
+     * @param trackIndex The index of the track on the page
      * @param note The note which is playing or stopped
      * @param velocity The velocity of the note, note is stopped if 0
      */
-    protected void notifyNoteObservers (final int trackPosition, final int note, final int velocity)
+    protected void notifyNoteObservers (final int trackIndex, final int note, final int velocity)
     {
-        if (!this.isOnSelectedPage (trackPosition))
-            return;
-
-        final int trackIndex = this.getUnpagedItem (trackPosition).getIndex ();
         for (final INoteObserver noteObserver: this.noteObservers)
             noteObserver.call (trackIndex, note, velocity);
     }
 
 
     /**
-     * Mark the track tree dirty for recalculation.
+     * Mark the whole track tree dirty for recalculation.
      */
     public void markDirty ()
     {
         synchronized (this.isDirty)
         {
+            this.isFullRecalc = true;
+            this.isDirty.set (true);
+        }
+    }
+
+
+    /**
+     * Mark a track dirty whose depth or activation state has changed. Only the part of the track
+     * tree, which contains the track, is recalculated.
+     *
+     * @param position The position of the track
+     */
+    public void markDirty (final int position)
+    {
+        if (position < 0)
+            return;
+
+        synchronized (this.isDirty)
+        {
+            this.dirtyTracks.set (position);
             this.isDirty.set (true);
         }
     }
@@ -393,34 +441,34 @@ public class TrackBankImpl extends AbstractTrackBankImpl
 
 
     /**
-     * Handles the updates on all playing notes. Translates the note array into individual note
-     * observer updates of start and stopped notes.
+     * Handles the updates on all playing notes of a track. Compares the notes with the previously
+     * playing notes of the track and only notifies the note observers about the notes which
+     * started, stopped or changed their velocity.
      *
      * @param trackPosition The position of the track
-     * @param notes The currently playing notes
+     * @param notesStr The currently playing notes, see PlayingNotes#parse
      */
-    public void handleNotes (final int trackPosition, final List<Note> notes)
+    public void handleNotes (final int trackPosition, final String notesStr)
     {
-        synchronized (this.noteCache)
+        final TrackImpl track = this.getUnpagedItem (trackPosition);
+        synchronized (this.receivedNotes)
         {
-            // Send the new notes
-            for (final Note note: notes)
-            {
-                final int pitch = note.getPitch ();
-                this.noteCache[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (trackPosition, pitch, note.getVelocity ());
-            }
-            // Send note offs
-            for (int i = 0; i < this.noteCache.length; i++)
+            this.receivedNotes.parse (notesStr);
+
+            final PlayingNotes playingNotes = track.getPlayingNotes ();
+            final boolean isVisible = !this.noteObservers.isEmpty () && this.isOnSelectedPage (trackPosition);
+            final int trackIndex = track.getIndex ();
+            for (int word = 0; word < PlayingNotes.WORDS; word++)
             {
-                if (this.noteCache[i] == NOTE_ON_NEW)
-                    this.noteCache[i] = NOTE_ON;
-                else if (this.noteCache[i] == NOTE_ON)
+                long changes = this.receivedNotes.getChanges (playingNotes, word);
+                while (isVisible && changes != 0)
                 {
-                    this.noteCache[i] = NOTE_OFF;
-                    this.notifyNoteObservers (trackPosition, i, 0);
+                    final int note = word * 64 + Long.numberOfTrailingZeros (changes);
+                    this.notifyNoteObservers (trackIndex, note, this.receivedNotes.getVelocity (note));
+                    changes &= changes - 1;
                 }
             }
+            playingNotes.set (this.receivedNotes);
         }
     }
 
@@ -441,25 +489,61 @@ public class TrackBankImpl extends AbstractTrackBankImpl
      */
     private void recalcTrackList ()
     {
+        // Fast path without locking if nothing has changed
+        if (!this.isDirty.get ())
+            return;
+
         synchronized (this.isDirty)
         {
             if (!this.isDirty.get ())
                 return;
 
+            boolean hasChanged = true;
             synchronized (this.items)
             {
-                if (this.hasFlatTrackList)
-                    this.calcFlatTrack ();
+                if (this.isFullRecalc)
+                {
+                    if (this.hasFlatTrackList)
+                        this.calcFlatTrack ();
+                    else
+                        this.calcTreeTracks ();
+                }
+                else if (this.hasFlatTrackList)
+                    hasChanged = this.updateFlatTracks ();
                 else
-                    this.calcTreeTracks ();
+                    this.updateTreeTracks ();
             }
 
+            this.dirtyTracks.clear ();
+            this.isFullRecalc = false;
+            this.publishVisibleTracks ();
             this.isDirty.set (false);
-            this.firePageObserver ();
+            if (hasChanged)
+                this.firePageObserver ();
         }
     }
 
 
+    /**
+     * Publish the tracks of the current folder (or the flat list) for reading without a lock. Must
+     * be called while synchronized on the dirty flag.
+     */
+    private void publishVisibleTracks ()
+    {
+        if (this.hasFlatTrackList)
+        {
+            this.visibleTracks = this.flatTracks.toArray (new TrackImpl [this.flatTracks.size ()]);
+            return;
+        }
+
+        final List<TreeNode<TrackImpl>> children = this.currentFolder.getChildren ();
+        final TrackImpl [] tracks = new TrackImpl [children.size ()];
+        for (int i = 0; i < tracks.length; i++)
+            tracks[i] = children.get (i).getData ();
+        this.visibleTracks = tracks;
+    }
+
+
     /**
      * Create a tree of groups and tracks. Filter deactivated tracks if enabled.
      */
@@ -471,6 +555,7 @@ public class TrackBankImpl extends AbstractTrackBankImpl
         final List<TreeNode<TrackImpl>> hierarchy = new ArrayList<> ();
         hierarchy.add (newRoot);
 
+        this.nextRootIndex = 0;
         for (int i = 0; i < super.getItemCount (); i++)
             this.insertInHierarchy (this.getUnpagedItem (i), hierarchy);
 
@@ -481,28 +566,134 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     }
 
 
-    private void insertInHierarchy (final TrackImpl track, final List<TreeNode<TrackImpl>> hierarchy)
+    /**
+     * Update the parts of the tree, which contain the dirty tracks. A part starts at the top level
+     * track in front of a dirty track and ends before the next top level track, since the depth
+     * and activation of a track only affect the tracks up to there.
+     */
+    private void updateTreeTracks ()
     {
-        // Filter deactivated tracks
-        if (this.skipDisabledItems && !track.isActivated ())
-            return;
+        final int count = super.getItemCount ();
+        int rangeEnd = 0;
+        int position = this.dirtyTracks.nextSetBit (0);
+        while (position >= 0 && position < count)
+        {
+            final int rangeStart = Math.max (this.findTopLevelTrack (position - 1, -1, -1), rangeEnd);
+            rangeEnd = this.findTopLevelTrack (position + 1, count, 1);
 
+            // Extend the range by further dirty tracks inside of it
+            position = this.dirtyTracks.nextSetBit (position + 1);
+            while (position >= 0 && position < rangeEnd)
+            {
+                rangeEnd = this.findTopLevelTrack (position + 1, count, 1);
+                position = this.dirtyTracks.nextSetBit (position + 1);
+            }
+
+            this.rebuildTreeRange (rangeStart, rangeEnd);
+        }
+
+        // The current folder might have been replaced
+        if (!this.currentFolder.isInTree (this.rootTrack))
+        {
+            this.currentFolder = this.rootTrack;
+            this.findSelectedTrack (this.rootTrack);
+        }
+    }
+
+
+    /**
+     * Find the next visible top level track.
+     *
+     * @param start The position where to start the search
+     * @param end The position where to end the search (exclusive)
+     * @param step 1 to search forwards, -1 backwards
+     * @return The position of the found track or end if none was found
+     */
+    private int findTopLevelTrack (final int start, final int end, final int step)
+    {
+        for (int i = start; i != end; i += step)
+        {
+            final TrackImpl track = this.getUnpagedItem (i);
+            if (track.getDepth () == 0 && (!this.skipDisabledItems || track.isActivated ()))
+                return i;
+        }
+        return end;
+    }
+
+
+    /**
+     * Replace the top level nodes of a range of tracks.
+     *
+     * @param start The position of the first track (inclusive)
+     * @param end The position of the last track (exclusive)
+     */
+    private void rebuildTreeRange (final int start, final int end)
+    {
+        final List<TreeNode<TrackImpl>> rootChildren = this.rootTrack.getChildren ();
+        final int from = findChild (rootChildren, start);
+        this.rootTrack.removeChildren (from, findChild (rootChildren, end));
+
+        final List<TreeNode<TrackImpl>> hierarchy = new ArrayList<> ();
+        hierarchy.add (this.rootTrack);
+        this.nextRootIndex = from;
+        for (int i = start; i < end; i++)
+            this.insertInHierarchy (this.getUnpagedItem (i), hierarchy);
+
+        // The following top level tracks might have moved
+        for (int i = this.nextRootIndex; i < rootChildren.size (); i++)
+            rootChildren.get (i).getData ().setIndex (i % this.pageSize);
+    }
+
+
+    /**
+     * Binary search for the first node in a list of nodes sorted by track position, whose track is
+     * at or after the given position.
+     *
+     * @param nodes The nodes
+     * @param position The track position
+     * @return The index of the node or the size of the list if there is none
+     */
+    private static int findChild (final List<TreeNode<TrackImpl>> nodes, final int position)
+    {
+        int low = 0;
+        int high = nodes.size ();
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (nodes.get (mid).getData ().getPosition () < position)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+
+    private void insertInHierarchy (final TrackImpl track, final List<TreeNode<TrackImpl>> hierarchy)
+    {
         final int depth = track.getDepth ();
 
         // This might happen if the parent folder is hidden!
         if (depth >= hierarchy.size ())
             return;
 
+        // Filter deactivated tracks, their children are hidden as well
+        if (this.skipDisabledItems && !track.isActivated ())
+        {
+            hierarchy.subList (depth + 1, hierarchy.size ()).clear ();
+            return;
+        }
+
         final TreeNode<TrackImpl> p = hierarchy.get (depth);
-        final TreeNode<TrackImpl> child = p.addChild (track);
-        final int childrenSize = p.getChildren ().size ();
-        track.setIndex ((childrenSize - 1) % this.pageSize);
+        // Top level tracks might be inserted in front of existing ones
+        final int childIndex = depth == 0 ? this.nextRootIndex++ : p.getChildren ().size ();
+        final TreeNode<TrackImpl> child = p.addChild (childIndex, track);
+        final int childrenSize = childIndex + 1;
+        track.setIndex (childIndex % this.pageSize);
 
-        final int index = depth + 1;
-        if (index < hierarchy.size ())
-            hierarchy.set (index, child);
-        else
-            hierarchy.add (index, child);
+        // Deeper levels of the previous folder must not be used by the following tracks
+        hierarchy.subList (depth + 1, hierarchy.size ()).clear ();
+        hierarchy.add (child);
 
         if (track.isSelected ())
         {
@@ -538,6 +729,76 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     }
 
 
+    /**
+     * Update the visibility of the dirty tracks in the flat list. Only required if deactivated
+     * tracks are filtered, the depth of a track does not matter for the flat list.
+     *
+     * @return True if the list has changed
+     */
+    private boolean updateFlatTracks ()
+    {
+        if (!this.skipDisabledItems)
+            return false;
+
+        int numTracks = this.flatTracks.size ();
+        if (numTracks > 0 && this.master != null && this.flatTracks.get (numTracks - 1) == this.master)
+            numTracks--;
+
+        int firstChange = -1;
+        final int count = super.getItemCount ();
+        for (int position = this.dirtyTracks.nextSetBit (0); position >= 0 && position < count; position = this.dirtyTracks.nextSetBit (position + 1))
+        {
+            final TrackImpl track = this.getUnpagedItem (position);
+            final int index = this.findFlatTrack (position, numTracks);
+            final boolean isListed = index < this.flatTracks.size () && this.flatTracks.get (index) == track;
+            if (isListed == track.isActivated ())
+                continue;
+
+            if (isListed)
+            {
+                this.flatTracks.remove (index);
+                numTracks--;
+            }
+            else
+            {
+                this.flatTracks.add (index, track);
+                numTracks++;
+            }
+            if (firstChange < 0)
+                firstChange = index;
+        }
+
+        if (firstChange < 0)
+            return false;
+        for (int i = firstChange; i < this.flatTracks.size (); i++)
+            this.flatTracks.get (i).setIndex (i % this.pageSize);
+        return true;
+    }
+
+
+    /**
+     * Binary search for the first track in the flat list at or after the given position.
+     *
+     * @param position The track position
+     * @param numTracks The number of tracks in the list without the master track
+     * @return The index in the flat list
+     */
+    private int findFlatTrack (final int position, final int numTracks)
+    {
+        int low = 0;
+        int high = numTracks;
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (this.flatTracks.get (mid).getPosition () < position)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+
     /**
      * Is the master track part of the track list?
      *
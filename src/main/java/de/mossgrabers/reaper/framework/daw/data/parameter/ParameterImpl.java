@@ -9,6 +9,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.reaper.communication.Processor;
 import de.mossgrabers.reaper.framework.daw.DataSetupEx;
 import de.mossgrabers.reaper.framework.daw.data.ItemImpl;
+import de.mossgrabers.reaper.framework.daw.event.ChangeField;
 
 
 /**
@@ -207,8 +208,11 @@ public class ParameterImpl extends ItemImpl implements IParameterEx
     {
         if (this.isBeingTouched)
             this.lastReceivedValue = value;
-        else
+        else if (this.value != value)
+        {
             this.value = value;
+            this.publishChange (ChangeField.VALUE, value);
+        }
     }
 
 
@@ -216,7 +220,11 @@ public class ParameterImpl extends ItemImpl implements IParameterEx
     @Override
     public void setValueStr (final String valueStr)
     {
-        this.valueStr = valueStr == null ? "" : valueStr;
+        final String text = valueStr == null ? "" : valueStr;
+        if (this.valueStr.equals (text))
+            return;
+        this.valueStr = text;
+        this.publishChange (ChangeField.VALUE_TEXT, text);
     }
 
 
@@ -0,0 +1,106 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.daw.event;
+
+import de.mossgrabers.reaper.communication.Processor;
+
+
+/**
+ * A change of a field of a model object. The object is identified by its processor and its
+ * position, e.g. the track at position 3. The new value is either a number or a text, depending on
+ * the field.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class ChangeEvent
+{
+    private final Processor   processor;
+    private final int         position;
+    private final ChangeField field;
+    private final double      value;
+    private final String      text;
+
+
+    /**
+     * Constructor.
+     *
+     * @param processor The processor of the changed object
+     * @param position The position of the changed object
+     * @param field The changed field
+     * @param value The new numeric value
+     * @param text The new text value, null for numeric fields
+     */
+    ChangeEvent (final Processor processor, final int position, final ChangeField field, final double value, final String text)
+    {
+        this.processor = processor;
+        this.position = position;
+        this.field = field;
+        this.value = value;
+        this.text = text;
+    }
+
+
+    /**
+     * Get the processor of the changed object.
+     *
+     * @return The processor
+     */
+    public Processor getProcessor ()
+    {
+        return this.processor;
+    }
+
+
+    /**
+     * Get the position of the changed object, 0 for objects which exist only once.
+     *
+     * @return The position
+     */
+    public int getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /**
+     * Get the changed field.
+     *
+     * @return The field
+     */
+    public ChangeField getField ()
+    {
+        return this.field;
+    }
+
+
+    /**
+     * Get the new value of a numeric field. States are 0 or 1.
+     *
+     * @return The value
+     */
+    public double getValue ()
+    {
+        return this.value;
+    }
+
+
+    /**
+     * Get the new value of a text field.
+     *
+     * @return The text, null for numeric fields
+     */
+    public String getText ()
+    {
+        return this.text;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.processor + "/" + this.position + "/" + this.field + "=" + (this.text == null ? Double.toString (this.value) : this.text);
+    }
+}
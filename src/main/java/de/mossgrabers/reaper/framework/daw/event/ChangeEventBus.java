@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.daw.event;
+
+import de.mossgrabers.reaper.communication.Processor;
+
+import java.util.Arrays;
+
+
+/**
+ * Distributes the changes of the model to the subscribed consumers, e.g. to update only the
+ * changed values on a display. The setters of the model objects publish an event after a value has
+ * changed. Each subscriber gets its own queue of events. If there are no subscribers publishing
+ * costs only a check of a volatile field and no event is created.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ChangeEventBus
+{
+    private volatile ChangeSubscription [] subscriptions = new ChangeSubscription [0];
+
+
+    /**
+     * Add a consumer of change events.
+     *
+     * @param capacity The maximum number of events waiting to be processed by the consumer
+     * @return The subscription from which to read the events
+     */
+    public synchronized ChangeSubscription subscribe (final int capacity)
+    {
+        final ChangeSubscription subscription = new ChangeSubscription (capacity);
+        final ChangeSubscription [] current = this.subscriptions;
+        final ChangeSubscription [] updated = Arrays.copyOf (current, current.length + 1);
+        updated[current.length] = subscription;
+        this.subscriptions = updated;
+        return subscription;
+    }
+
+
+    /**
+     * Remove a consumer of change events.
+     *
+     * @param subscription The subscription to remove
+     */
+    public synchronized void unsubscribe (final ChangeSubscription subscription)
+    {
+        final ChangeSubscription [] current = this.subscriptions;
+        for (int i = 0; i < current.length; i++)
+        {
+            if (current[i] != subscription)
+                continue;
+            final ChangeSubscription [] updated = new ChangeSubscription [current.length - 1];
+            System.arraycopy (current, 0, updated, 0, i);
+            System.arraycopy (current, i + 1, updated, i, current.length - i - 1);
+            this.subscriptions = updated;
+            return;
+        }
+    }
+
+
+    /**
+     * Check if there is at least one subscriber.
+     *
+     * @return True if there is a subscriber
+     */
+    public boolean hasSubscribers ()
+    {
+        return this.subscriptions.length > 0;
+    }
+
+
+    /**
+     * Publish the change of a numeric field.
+     *
+     * @param processor The processor of the changed object
+     * @param position The position of the changed object
+     * @param field The changed field
+     * @param value The new value
+     */
+    public void publish (final Processor processor, final int position, final ChangeField field, final double value)
+    {
+        final ChangeSubscription [] current = this.subscriptions;
+        if (current.length > 0)
+            publish (current, new ChangeEvent (processor, position, field, value, null));
+    }
+
+
+    /**
+     * Publish the change of a state.
+     *
+     * @param processor The processor of the changed object
+     * @param position The position of the changed object
+     * @param field The changed field
+     * @param state The new state
+     */
+    public void publish (final Processor processor, final int position, final ChangeField field, final boolean state)
+    {
+        final ChangeSubscription [] current = this.subscriptions;
+        if (current.length > 0)
+            publish (current, new ChangeEvent (processor, position, field, state ? 1 : 0, null));
+    }
+
+
+    /**
+     * Publish the change of a text field.
+     *
+     * @param processor The processor of the changed object
+     * @param position The position of the changed object
+     * @param field The changed field
+     * @param text The new text
+     */
+    public void publish (final Processor processor, final int position, final ChangeField field, final String text)
+    {
+        final ChangeSubscription [] current = this.subscriptions;
+        if (current.length > 0)
+            publish (current, new ChangeEvent (processor, position, field, 0, text));
+    }
+
+
+    private static void publish (final ChangeSubscription [] current, final ChangeEvent event)
+    {
+        for (final ChangeSubscription subscription: current)
+            subscription.add (event);
+    }
+}
@@ -0,0 +1,46 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.daw.event;
+
+/**
+ * The fields of the model objects which publish change events.
+ *
+ * @author Jürgen Moßgraber
+ */
+public enum ChangeField
+{
+    /** The exists state of an item, value is 0 or 1. */
+    EXISTS,
+    /** The name of an item, the text contains the new name. */
+    NAME,
+    /** The selection state of an item, value is 0 or 1. */
+    SELECTED,
+    /** The mute state of a channel, value is 0 or 1. */
+    MUTE,
+    /** The solo state of a channel, value is 0 or 1. */
+    SOLO,
+    /** The activation state of a channel, value is 0 or 1. */
+    ACTIVATED,
+    /** The color of a channel, value is the color encoded with ColorEx#encode. */
+    COLOR,
+    /** The record arm state of a track, value is 0 or 1. */
+    REC_ARM,
+    /** The normalized value of a parameter (0..1). */
+    VALUE,
+    /** The formatted value of a parameter, the text contains the new value. */
+    VALUE_TEXT,
+    /** The play state of the transport, value is 0 or 1. */
+    PLAY,
+    /** The record state of the transport, value is 0 or 1. */
+    RECORD,
+    /** The loop state of the transport, value is 0 or 1. */
+    LOOP,
+    /** The metronome state of the transport, value is 0 or 1. */
+    METRONOME,
+    /** The numerator of the time signature. */
+    NUMERATOR,
+    /** The denominator of the time signature. */
+    DENOMINATOR
+}
@@ -0,0 +1,65 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.daw.event;
+
+import de.mossgrabers.framework.utils.RingBufferQueue;
+
+
+/**
+ * The change events of one consumer. Events are collected in a bounded ring buffer, which must be
+ * drained by a single thread of the consumer. If the consumer is too slow, new events are dropped
+ * and counted.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ChangeSubscription
+{
+    private final RingBufferQueue<ChangeEvent> queue;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of events waiting to be processed
+     */
+    ChangeSubscription (final int capacity)
+    {
+        this.queue = new RingBufferQueue<> (capacity);
+    }
+
+
+    /**
+     * Add an event.
+     *
+     * @param event The event
+     */
+    void add (final ChangeEvent event)
+    {
+        this.queue.offer (event);
+    }
+
+
+    /**
+     * Get the next change event.
+     *
+     * @return The event or null if there are no more events
+     */
+    public ChangeEvent poll ()
+    {
+        return this.queue.poll ();
+    }
+
+
+    /**
+     * Get the number of events which were dropped since the consumer did not process them fast
+     * enough. The consumer should then refresh all of its data.
+     *
+     * @return The number of dropped events
+     */
+    public long getDroppedCount ()
+    {
+        return this.queue.getDroppedCount ();
+    }
+}
@@ -0,0 +1,317 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.device;
+
+import de.mossgrabers.framework.utils.Pair;
+import de.mossgrabers.reaper.framework.IniFiles;
+import de.mossgrabers.reaper.ui.utils.LogModel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+
+/**
+ * A binary file which stores the processed device information (devices, categories, vendors and
+ * collections) to not parse the device descriptions and the FX tags and folders files on each
+ * start. The cache is only used if it was created from the same device descriptions and the FX
+ * tags and folders files have the same size and modification time. The file is read completely
+ * into memory with one read. It is not memory mapped since a mapping keeps the file locked on
+ * Windows, which prevents replacing it when the cache is saved.
+ *
+ * @author Jürgen Moßgraber
+ */
+class DeviceCache
+{
+    private static final String FILENAME = "DrivenByMoss4Reaper-DeviceCache.bin";
+    private static final int    MAGIC    = 0x44424D43;
+    /** Increase if the format or the processing of the device information changes. */
+    private static final int    VERSION  = 1;
+
+    private final File          file;
+    private final LogModel      logModel;
+    private final long []       key;
+
+
+    /**
+     * Constructor.
+     *
+     * @param iniFiles Access to the INI files
+     * @param descriptions The description and module of all devices as received from Reaper
+     * @param logModel For logging
+     */
+    DeviceCache (final IniFiles iniFiles, final List<String []> descriptions, final LogModel logModel)
+    {
+        this.file = new File (iniFiles.getIniPath (), FILENAME);
+        this.logModel = logModel;
+
+        long hash = 1125899906842597L;
+        for (final String [] description: descriptions)
+        {
+            hash = 31 * hash + description[0].hashCode ();
+            hash = 31 * hash + description[1].hashCode ();
+        }
+
+        final File fxTagsFile = iniFiles.getFxTagsFile ();
+        final File fxFoldersFile = iniFiles.getFxFoldersFile ();
+        this.key = new long []
+        {
+            hash,
+            descriptions.size (),
+            fxTagsFile.length (),
+            fxTagsFile.lastModified (),
+            fxFoldersFile.length (),
+            fxFoldersFile.lastModified ()
+        };
+    }
+
+
+    /**
+     * Load the device information from the cache. Nothing is added if the cache is missing,
+     * outdated or corrupt.
+     *
+     * @param devices Where to add the devices
+     * @param instruments Where to add the instrument devices
+     * @param effects Where to add the effect devices
+     * @param categories Where to add the categories
+     * @param vendors Where to add the vendors
+     * @param collections Where to add the collections
+     * @return True if the information was loaded
+     */
+    boolean load (final List<DeviceMetadataImpl> devices, final List<DeviceMetadataImpl> instruments, final List<DeviceMetadataImpl> effects, final Set<String> categories, final Set<String> vendors, final List<DeviceCollection> collections)
+    {
+        if (!this.file.exists ())
+            return false;
+
+        try (final FileChannel channel = FileChannel.open (this.file.toPath (), StandardOpenOption.READ))
+        {
+            final long size = channel.size ();
+            if (size > Integer.MAX_VALUE)
+                return false;
+            final ByteBuffer buffer = ByteBuffer.allocate ((int) size);
+            int read = 0;
+            while (buffer.hasRemaining () && read >= 0)
+                read = channel.read (buffer);
+            buffer.flip ();
+            if (buffer.getInt () != MAGIC || buffer.getInt () != VERSION)
+                return false;
+            for (final long value: this.key)
+            {
+                if (buffer.getLong () != value)
+                    return false;
+            }
+
+            // Read everything before adding it to not end up with partial information
+            final Set<String> cachedCategories = readStrings (buffer, new TreeSet<> ());
+            final Set<String> cachedVendors = readStrings (buffer, new TreeSet<> ());
+
+            final DeviceType [] deviceTypes = DeviceType.values ();
+            final DeviceFileType [] fileTypes = DeviceFileType.values ();
+            final DeviceMetadataImpl [] cachedDevices = new DeviceMetadataImpl [readCount (buffer)];
+            for (int i = 0; i < cachedDevices.length; i++)
+            {
+                final String name = readString (buffer);
+                final String module = readString (buffer);
+                final DeviceType deviceType = deviceTypes[buffer.get ()];
+                final DeviceFileType fileType = fileTypes[buffer.get ()];
+                final DeviceMetadataImpl device = new DeviceMetadataImpl (name, module, deviceType, fileType);
+                device.setVendor (readString (buffer));
+                device.addCategories (readStrings (buffer, new ArrayList<> ()));
+                cachedDevices[i] = device;
+            }
+            final List<DeviceMetadataImpl> cachedInstruments = readDevices (buffer, cachedDevices);
+            final List<DeviceMetadataImpl> cachedEffects = readDevices (buffer, cachedDevices);
+
+            final int numCollections = readCount (buffer);
+            final List<DeviceCollection> cachedCollections = new ArrayList<> (numCollections);
+            for (int i = 0; i < numCollections; i++)
+            {
+                final DeviceCollection collection = new DeviceCollection (readString (buffer));
+                final int numItems = readCount (buffer);
+                for (int j = 0; j < numItems; j++)
+                {
+                    final int type = buffer.getInt ();
+                    collection.addItem (readString (buffer), type);
+                }
+                cachedCollections.add (collection);
+            }
+
+            devices.addAll (List.of (cachedDevices));
+            instruments.addAll (cachedInstruments);
+            effects.addAll (cachedEffects);
+            categories.addAll (cachedCategories);
+            vendors.addAll (cachedVendors);
+            collections.addAll (cachedCollections);
+            return true;
+        }
+        catch (final IOException | BufferUnderflowException | IndexOutOfBoundsException ex)
+        {
+            this.logModel.info ("Could not read the device cache, parsing all device information.");
+            return false;
+        }
+    }
+
+
+    /**
+     * Store the device information in the cache.
+     *
+     * @param devices The devices
+     * @param instruments The instrument devices
+     * @param effects The effect devices
+     * @param categories The categories
+     * @param vendors The vendors
+     * @param collections The collections
+     */
+    void save (final List<DeviceMetadataImpl> devices, final List<DeviceMetadataImpl> instruments, final List<DeviceMetadataImpl> effects, final Set<String> categories, final Set<String> vendors, final List<DeviceCollection> collections)
+    {
+        final File tempFile = new File (this.file.getParentFile (), FILENAME + ".tmp");
+        try
+        {
+            try (final DataOutputStream out = new DataOutputStream (new BufferedOutputStream (Files.newOutputStream (tempFile.toPath ()))))
+            {
+                out.writeInt (MAGIC);
+                out.writeInt (VERSION);
+                for (final long value: this.key)
+                    out.writeLong (value);
+
+                writeStrings (out, categories);
+                writeStrings (out, vendors);
+
+                final Map<DeviceMetadataImpl, Integer> positions = new IdentityHashMap<> (devices.size ());
+                out.writeInt (devices.size ());
+                for (final DeviceMetadataImpl device: devices)
+                {
+                    positions.put (device, Integer.valueOf (positions.size ()));
+                    writeString (out, device.name ());
+                    writeString (out, device.getModule ());
+                    out.writeByte (device.getType ().ordinal ());
+                    out.writeByte (device.getFileType ().ordinal ());
+                    writeString (out, device.getVendor ());
+                    writeStrings (out, device.getCategories ());
+                }
+                writeDevices (out, instruments, positions);
+                writeDevices (out, effects, positions);
+
+                out.writeInt (collections.size ());
+                for (final DeviceCollection collection: collections)
+                {
+                    writeString (out, collection.getName ());
+                    final List<Pair<String, Integer>> items = collection.getItems ();
+                    out.writeInt (items.size ());
+                    for (final Pair<String, Integer> item: items)
+                    {
+                        out.writeInt (item.getValue ().intValue ());
+                        writeString (out, item.getKey ());
+                    }
+                }
+            }
+
+            Files.move (tempFile.toPath (), this.file.toPath (), StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (final IOException ex)
+        {
+            this.logModel.error ("Could not write the device cache.", ex);
+        }
+    }
+
+
+    private static List<DeviceMetadataImpl> readDevices (final ByteBuffer buffer, final DeviceMetadataImpl [] devices)
+    {
+        final int size = readCount (buffer);
+        final List<DeviceMetadataImpl> result = new ArrayList<> (size);
+        for (int i = 0; i < size; i++)
+            result.add (devices[buffer.getInt ()]);
+        return result;
+    }
+
+
+    private static void writeDevices (final DataOutputStream out, final List<DeviceMetadataImpl> devices, final Map<DeviceMetadataImpl, Integer> positions) throws IOException
+    {
+        out.writeInt (devices.size ());
+        for (final DeviceMetadataImpl device: devices)
+            out.writeInt (positions.get (device).intValue ());
+    }
+
+
+    private static <T extends Collection<String>> T readStrings (final ByteBuffer buffer, final T strings)
+    {
+        final int size = readCount (buffer);
+        for (int i = 0; i < size; i++)
+            strings.add (readString (buffer));
+        return strings;
+    }
+
+
+    private static void writeStrings (final DataOutputStream out, final Set<String> strings) throws IOException
+    {
+        out.writeInt (strings.size ());
+        for (final String string: strings)
+            writeString (out, string);
+    }
+
+
+    /**
+     * Read the number of following elements. Each element has at least one byte, which allows to
+     * detect corrupt numbers before allocating memory for them.
+     *
+     * @param buffer The buffer to read from
+     * @return The number
+     */
+    private static int readCount (final ByteBuffer buffer)
+    {
+        final int count = buffer.getInt ();
+        if (count < 0 || count > buffer.remaining ())
+            throw new BufferUnderflowException ();
+        return count;
+    }
+
+
+    /**
+     * Read a string which is stored as the length of the UTF-8 bytes followed by the bytes. A
+     * length of -1 is a null string.
+     *
+     * @param buffer The buffer to read from
+     * @return The string
+     */
+    private static String readString (final ByteBuffer buffer)
+    {
+        final int length = buffer.getInt ();
+        if (length < 0)
+            return null;
+        if (length > buffer.remaining ())
+            throw new BufferUnderflowException ();
+        final byte [] bytes = new byte [length];
+        buffer.get (bytes);
+        return new String (bytes, StandardCharsets.UTF_8);
+    }
+
+
+    private static void writeString (final DataOutputStream out, final String string) throws IOException
+    {
+        if (string == null)
+        {
+            out.writeInt (-1);
+            return;
+        }
+        final byte [] bytes = string.getBytes (StandardCharsets.UTF_8);
+        out.writeInt (bytes.length);
+        out.write (bytes);
+    }
+}
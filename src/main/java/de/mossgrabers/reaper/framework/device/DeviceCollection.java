@@ -39,6 +39,7 @@ public class DeviceCollection
     private final Set<String>                                 jsItems                 = new HashSet<> ();
     private final Set<String>                                 vstItems                = new HashSet<> ();
     private final Map<String, Pair<Set<String>, Set<String>>> queryItems              = new HashMap<> ();
+    private final List<Pair<String, Integer>>                 items                   = new ArrayList<> ();
 
 
     /**
@@ -60,6 +61,8 @@ public class DeviceCollection
      */
     public void addItem (final String item, final int type)
     {
+        this.items.add (new Pair<> (item, Integer.valueOf (type)));
+
         switch (type)
         {
             case TYPE_JS:
@@ -120,6 +123,17 @@ public class DeviceCollection
     }
 
 
+    /**
+     * Get all added items as they were added.
+     *
+     * @return The items and their types
+     */
+    List<Pair<String, Integer>> getItems ()
+    {
+        return this.items;
+    }
+
+
     /**
      * Filter all given devices by the folder.
      *
@@ -144,7 +158,7 @@ public class DeviceCollection
      * @param device The device to test
      * @return True if matches
      */
-    private boolean testDevice (final DeviceMetadataImpl device)
+    boolean testDevice (final DeviceMetadataImpl device)
     {
         final boolean isJS = device.getFileType ().equals (DeviceFileType.JS);
         final String module = device.getModule ();
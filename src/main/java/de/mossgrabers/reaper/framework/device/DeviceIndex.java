@@ -0,0 +1,229 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.device;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * An inverted index of the devices. Contains a bit set of the matching devices for each file type,
+ * category, vendor, collection and device type. A filter is the bitwise AND of the selected bit
+ * sets and the result of a text search over the names and vendors. The index is immutable and needs
+ * to be rebuilt if the devices change.
+ *
+ * @author Jürgen Moßgraber
+ */
+class DeviceIndex
+{
+    private static final BitSet                 EMPTY       = new BitSet ();
+
+    private final DeviceMetadataImpl []         devices;
+    private final int                           preferredTypesPattern;
+    private final Map<DeviceFileType, BitSet>   fileTypes   = new EnumMap<> (DeviceFileType.class);
+    private final Map<String, BitSet>           categories  = new HashMap<> ();
+    private final Map<String, BitSet>           vendors     = new HashMap<> ();
+    private final Map<DeviceType, BitSet>       types       = new EnumMap<> (DeviceType.class);
+    private final Map<DeviceCollection, BitSet> collections = new IdentityHashMap<> ();
+    private final TextSearchIndex               textIndex;
+
+    // Devices with the same name but a different file type are in the same group
+    private final BitSet                        duplicates  = new BitSet ();
+    private final int []                        groups;
+    private final int []                        ranks;
+    private final int                           numGroups;
+
+
+    /**
+     * Constructor.
+     *
+     * @param devices The devices to index
+     * @param collections The collections to index
+     * @param preferredTypes The preferred file types for identical devices
+     * @param preferredTypesPattern The setting from which the preferred types were read
+     */
+    DeviceIndex (final List<DeviceMetadataImpl> devices, final List<DeviceCollection> collections, final List<DeviceFileType> preferredTypes, final int preferredTypesPattern)
+    {
+        this.devices = devices.toArray (new DeviceMetadataImpl [devices.size ()]);
+        this.preferredTypesPattern = preferredTypesPattern;
+
+        for (int i = 0; i < this.devices.length; i++)
+        {
+            final DeviceMetadataImpl device = this.devices[i];
+            this.fileTypes.computeIfAbsent (device.getFileType (), key -> new BitSet ()).set (i);
+            this.types.computeIfAbsent (device.getType (), key -> new BitSet ()).set (i);
+            for (final String category: device.getCategories ())
+                this.categories.computeIfAbsent (category, key -> new BitSet ()).set (i);
+            final String vendor = device.getVendor ();
+            if (vendor != null)
+                this.vendors.computeIfAbsent (vendor, key -> new BitSet ()).set (i);
+        }
+
+        for (final DeviceCollection collection: collections)
+            this.collections.put (collection, this.createCollectionSet (collection));
+
+        final String [] [] texts = new String [this.devices.length] [];
+        for (int i = 0; i < this.devices.length; i++)
+        {
+            final DeviceMetadataImpl device = this.devices[i];
+            texts[i] = new String []
+            {
+                device.getDisplayName (),
+                device.getVendor ()
+            };
+        }
+        this.textIndex = new TextSearchIndex (texts);
+
+        // Group identical devices (= with the same name), only groups with more than one device
+        // need to be filtered by the preferred type
+        final Map<String, List<Integer>> identicalDevices = new HashMap<> ();
+        for (int i = 0; i < this.devices.length; i++)
+            identicalDevices.computeIfAbsent (this.devices[i].name (), name -> new ArrayList<> (1)).add (Integer.valueOf (i));
+
+        this.groups = new int [this.devices.length];
+        this.ranks = new int [this.devices.length];
+        int groupCount = 0;
+        for (final List<Integer> group: identicalDevices.values ())
+        {
+            if (group.size () <= 1 || preferredTypes.isEmpty ())
+                continue;
+            for (final Integer index: group)
+            {
+                final int i = index.intValue ();
+                this.duplicates.set (i);
+                this.groups[i] = groupCount;
+                this.ranks[i] = preferredTypes.indexOf (this.devices[i].getFileType ());
+            }
+            groupCount++;
+        }
+        this.numGroups = groupCount;
+    }
+
+
+    /**
+     * Get the setting from which the preferred types of the index were read.
+     *
+     * @return The setting
+     */
+    int getPreferredTypesPattern ()
+    {
+        return this.preferredTypesPattern;
+    }
+
+
+    /**
+     * Filter the devices by different criteria. If there are identical devices (= with the same
+     * name) in the result, only the one of the preferred file type is kept. If none has a preferred
+     * type, all are kept.
+     *
+     * @param fileType Filter by device type (plugin format), may be null
+     * @param category Filter by device category, may be null
+     * @param vendor Filter by device vendor, may be null
+     * @param collection Filter by device collection, may be null
+     * @param deviceType Filter by device type, may be null
+     * @param searchText Only keep devices which contain the text in their name or vendor, may be
+     *            null or empty
+     * @return The devices matching the filter criteria in the order of the index, if there is a
+     *         search text the devices whose name starts with it come first
+     */
+    List<DeviceMetadataImpl> filter (final DeviceFileType fileType, final String category, final String vendor, final DeviceCollection collection, final DeviceType deviceType, final String searchText)
+    {
+        final BitSet result = new BitSet (this.devices.length);
+        result.set (0, this.devices.length);
+
+        if (fileType != null)
+            result.and (this.fileTypes.getOrDefault (fileType, EMPTY));
+        if (category != null)
+            result.and (this.categories.getOrDefault (category, EMPTY));
+        if (vendor != null)
+            result.and (this.vendors.getOrDefault (vendor, EMPTY));
+        if (deviceType != null)
+            result.and (this.types.getOrDefault (deviceType, EMPTY));
+        if (collection != null)
+        {
+            final BitSet collectionSet = this.collections.get (collection);
+            result.and (collectionSet == null ? this.createCollectionSet (collection) : collectionSet);
+        }
+
+        final boolean isSearch = searchText != null && !searchText.isBlank ();
+        if (isSearch)
+            result.and (this.textIndex.search (searchText));
+
+        if (result.cardinality () > 1)
+            this.filterPreferredFileTypes (result);
+
+        final List<DeviceMetadataImpl> results = new ArrayList<> (result.cardinality ());
+        if (!isSearch)
+        {
+            for (int i = result.nextSetBit (0); i >= 0; i = result.nextSetBit (i + 1))
+                results.add (this.devices[i]);
+            return results;
+        }
+
+        // Show the devices first which start with the search text
+        for (int i = result.nextSetBit (0); i >= 0; i = result.nextSetBit (i + 1))
+        {
+            if (this.textIndex.isPrefix (i, searchText))
+            {
+                results.add (this.devices[i]);
+                result.clear (i);
+            }
+        }
+        for (int i = result.nextSetBit (0); i >= 0; i = result.nextSetBit (i + 1))
+            results.add (this.devices[i]);
+        return results;
+    }
+
+
+    /**
+     * Removes all identical devices from the result, which are not of the preferred type.
+     *
+     * @param result The result to filter
+     */
+    private void filterPreferredFileTypes (final BitSet result)
+    {
+        final BitSet identical = (BitSet) result.clone ();
+        identical.and (this.duplicates);
+        if (identical.isEmpty ())
+            return;
+
+        // Find the device of the most preferred type of each group, which is in the result
+        final int [] preferred = new int [this.numGroups];
+        Arrays.fill (preferred, -1);
+        for (int i = identical.nextSetBit (0); i >= 0; i = identical.nextSetBit (i + 1))
+        {
+            final int rank = this.ranks[i];
+            final int group = this.groups[i];
+            if (rank >= 0 && (preferred[group] < 0 || rank < this.ranks[preferred[group]]))
+                preferred[group] = i;
+        }
+
+        // If no preferred type was found, keep all
+        for (int i = identical.nextSetBit (0); i >= 0; i = identical.nextSetBit (i + 1))
+        {
+            final int device = preferred[this.groups[i]];
+            if (device >= 0 && device != i)
+                result.clear (i);
+        }
+    }
+
+
+    private BitSet createCollectionSet (final DeviceCollection collection)
+    {
+        final BitSet set = new BitSet (this.devices.length);
+        for (int i = 0; i < this.devices.length; i++)
+        {
+            if (collection.testDevice (this.devices[i]))
+                set.set (i);
+        }
+        return set;
+    }
+}
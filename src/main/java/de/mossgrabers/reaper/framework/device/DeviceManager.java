@@ -14,14 +14,12 @@ import com.nikhaldimann.inieditor.IniEditor;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -101,8 +99,9 @@ public class DeviceManager
     private final List<DeviceCollection>    collections        = new ArrayList<> ();
     private final Set<DeviceFileType>       availableFileTypes = new TreeSet<> ();
     private final Map<String, ParameterMap> parameterMaps      = new HashMap<> ();
-    private final List<DeviceFileType>      preferredTypes     = new ArrayList<> ();
+    private final List<String []>           deviceDescriptions = new ArrayList<> ();
     private IniFiles                        iniFiles;
+    private volatile DeviceIndex            index;
 
 
     /**
@@ -253,108 +252,116 @@ public class DeviceManager
      */
     public List<DeviceMetadataImpl> filterBy (final DeviceFileType fileType, final String category, final String vendor, final DeviceCollection collection, final DeviceType deviceType)
     {
-        List<DeviceMetadataImpl> results = new ArrayList<> ();
-        synchronized (this.devices)
-        {
-            for (final DeviceMetadataImpl d: this.devices)
-            {
-                if (accept (d, fileType, category, vendor, deviceType))
-                    results.add (d);
-            }
-        }
-
-        if (collection != null)
-            results = collection.filter (results);
-        return this.filterPreferredFileTypes (results);
+        return this.filterBy (fileType, category, vendor, collection, deviceType, null);
     }
 
 
     /**
-     * Filter by preferred types.
+     * Filter the devices by different criteria and a search text.
      *
-     * @param results The devices to filter
-     * @return The filtered list
+     * @param fileType Filter by device type (plugin format), may be null
+     * @param category Filter by device category, may be null
+     * @param vendor Filter by device vendor, may be null
+     * @param collection Filter by device collection, may be null
+     * @param deviceType Filter by device type, may be null
+     * @param searchText Only devices which contain the text in their name or vendor, may be null
+     * @return The devices matching the filter criteria, devices whose name starts with the search
+     *         text come first
      */
-    private List<DeviceMetadataImpl> filterPreferredFileTypes (final List<DeviceMetadataImpl> results)
+    public List<DeviceMetadataImpl> filterBy (final DeviceFileType fileType, final String category, final String vendor, final DeviceCollection collection, final DeviceType deviceType, final String searchText)
     {
-        final List<DeviceFileType> prefTypes = this.getPreferredTypes ();
-        if (prefTypes.isEmpty () || results.size () <= 1)
-            return results;
+        return this.getIndex ().filter (fileType, category, vendor, collection, deviceType, searchText);
+    }
 
-        // Group identical devices (= with the same name) into a map
-        final Map<String, Map<DeviceFileType, DeviceMetadataImpl>> identicalDevices = new TreeMap<> ();
-        for (final DeviceMetadataImpl device: results)
-        {
-            final String deviceName = device.name ();
-            identicalDevices.computeIfAbsent (deviceName, name -> new EnumMap<> (DeviceFileType.class)).put (device.getFileType (), device);
-        }
 
-        // Choose the preferred devices by their file type
-        final List<DeviceMetadataImpl> resultsFiltered = new ArrayList<> ();
-        for (final Map<DeviceFileType, DeviceMetadataImpl> deviceOptions: identicalDevices.values ())
-        {
-            // Find the device of the preferred type
-            DeviceMetadataImpl deviceMetadata = null;
-            for (final DeviceFileType prefType: prefTypes)
-            {
-                deviceMetadata = deviceOptions.get (prefType);
-                if (deviceMetadata != null)
-                    break;
-            }
+    /**
+     * Get the index of the devices. The index is rebuilt if it was invalidated by adding devices or
+     * if the preferred types were changed in the Reaper settings.
+     *
+     * @return The index
+     */
+    private DeviceIndex getIndex ()
+    {
+        final int pattern = this.getPreferredTypesPattern ();
+        final DeviceIndex deviceIndex = this.index;
+        if (deviceIndex != null && deviceIndex.getPreferredTypesPattern () == pattern)
+            return deviceIndex;
 
-            // If no preferred type was found, add all
-            if (deviceMetadata == null)
-                resultsFiltered.addAll (deviceOptions.values ());
-            else
-                resultsFiltered.add (deviceMetadata);
+        synchronized (this.devices)
+        {
+            return this.updateIndex (pattern);
         }
-        return resultsFiltered;
     }
 
 
-    private static boolean accept (final DeviceMetadataImpl d, final DeviceFileType fileType, final String category, final String vendor, final DeviceType deviceType)
+    /**
+     * Rebuild the index of the devices. Must be called while holding the lock on the devices.
+     *
+     * @param preferredTypesPattern The setting of the preferred types
+     * @return The new index
+     */
+    private DeviceIndex updateIndex (final int preferredTypesPattern)
     {
-        if (fileType != null && d.getFileType () != fileType || category != null && !d.hasCategory (category))
-            return false;
+        final DeviceIndex deviceIndex = new DeviceIndex (this.devices, this.collections, getPreferredTypes (preferredTypesPattern), preferredTypesPattern);
+        this.index = deviceIndex;
+        return deviceIndex;
+    }
 
-        if (vendor != null && !vendor.equals (d.getVendor ()))
-            return false;
 
-        return deviceType == null || d.getType () == deviceType;
+    private int getPreferredTypesPattern ()
+    {
+        return this.iniFiles == null ? 0 : this.iniFiles.getMainIniInteger ("REAPER-fxadd", "dupefilter", 0);
     }
 
 
-    private List<DeviceFileType> getPreferredTypes ()
+    private static List<DeviceFileType> getPreferredTypes (final int pattern)
     {
-        if (this.iniFiles == null)
+        if (pattern == 0)
             return Collections.emptyList ();
 
-        final int pattern = this.iniFiles.getMainIniInteger ("REAPER-fxadd", "dupefilter", 0);
-
         // The pattern is a 16 bit integer consisting of four 4-bit values providing the potential
         // four preferred plugin types. Priority 1 is LSB. The values for the plugin types are:
         // Off: 0, VST3: 1, VST2: 2, AU: 3, LV2: 4, CLAP: 5
 
-        this.preferredTypes.clear ();
+        final List<DeviceFileType> preferredTypes = new ArrayList<> (4);
         for (int i = 0; i < 4; i++)
         {
             final int code = pattern >> i * 4 & 15;
             final DeviceFileType type = TYPE_CODES.get (Integer.valueOf (code));
             if (type != null)
-                this.preferredTypes.add (type);
+                preferredTypes.add (type);
         }
-
-        return this.preferredTypes;
+        return preferredTypes;
     }
 
 
     /**
-     * Add a device to the manager.
+     * Add a device to the manager. The description is parsed when the device information is
+     * applied.
      *
      * @param description The description line of the device, e.g. "VSTi: My Plugin (Company X)"
      * @param module The module of the plugin
      */
     public void addDeviceInfo (final String description, final String module)
+    {
+        synchronized (this.devices)
+        {
+            this.deviceDescriptions.add (new String []
+            {
+                description,
+                module
+            });
+        }
+    }
+
+
+    /**
+     * Parse the description of a device and add it.
+     *
+     * @param description The description line of the device, e.g. "VSTi: My Plugin (Company X)"
+     * @param module The module of the plugin
+     */
+    private void parseDeviceInfo (final String description, final String module)
     {
         final Matcher matcher = PATTERN_NAME.matcher (description);
         if (!matcher.matches ())
@@ -416,6 +423,7 @@ public class DeviceManager
         }
 
         this.devices.add (device);
+        this.index = null;
         if (deviceType == DeviceType.INSTRUMENT)
             this.instruments.add (device);
         else
@@ -426,7 +434,9 @@ public class DeviceManager
 
 
     /**
-     * Load all information from some INI files in Reapers' configuration path.
+     * Parse all added devices and load all information from some INI files in Reapers'
+     * configuration path. The processed device information is read from the device cache if the
+     * devices and INI files did not change since it was written.
      *
      * @param iniFiles Access to the INI files
      * @param logModel For logging
@@ -437,55 +447,87 @@ public class DeviceManager
 
         synchronized (this.devices)
         {
-            // Load categories and vendor information
-            if (iniFiles.isFxTagsPresent ())
+            if (!this.deviceDescriptions.isEmpty ())
             {
-                final Set<String> vendorsSet = new TreeSet<> ();
-                final Set<String> categoriesSet = new TreeSet<> ();
-                this.parseFXTagsFile (iniFiles.getIniFxTags (), categoriesSet, vendorsSet);
-                this.categories.addAll (categoriesSet);
-                this.vendors.addAll (vendorsSet);
+                // The cache only contains the devices of one call
+                final DeviceCache cache = this.devices.isEmpty () ? new DeviceCache (iniFiles, this.deviceDescriptions, logModel) : null;
+                if (cache != null && cache.load (this.devices, this.instruments, this.effects, this.categories, this.vendors, this.collections))
+                {
+                    for (final DeviceMetadataImpl device: this.devices)
+                        this.availableFileTypes.add (device.getFileType ());
+                }
+                else
+                {
+                    for (final String [] description: this.deviceDescriptions)
+                        this.parseDeviceInfo (description[0], description[1]);
+                    this.processDeviceInfo (iniFiles);
+                    if (cache != null)
+                        cache.save (this.devices, this.instruments, this.effects, this.categories, this.vendors, this.collections);
+                }
+                this.deviceDescriptions.clear ();
             }
 
-            // Load collection filters
-            if (iniFiles.isFxFoldersPresent ())
-                this.parseCollectionFilters (iniFiles.getIniFxFolders ());
-
             // Load device maps
             if (iniFiles.isParamMapsPresent ())
                 this.parseParameterMaps (iniFiles.getIniParamMaps ());
 
-            // Improve category assignment
-            for (final DeviceMetadataImpl device: this.devices)
+            this.updateIndex (this.getPreferredTypesPattern ());
+        }
+    }
+
+
+    /**
+     * Assign categories, vendors and collections to the parsed devices. Must be called while
+     * holding the lock on the devices.
+     *
+     * @param iniFiles Access to the INI files
+     */
+    private void processDeviceInfo (final IniFiles iniFiles)
+    {
+        // Load categories and vendor information
+        if (iniFiles.isFxTagsPresent ())
+        {
+            final Set<String> vendorsSet = new TreeSet<> ();
+            final Set<String> categoriesSet = new TreeSet<> ();
+            this.parseFXTagsFile (iniFiles.getIniFxTags (), categoriesSet, vendorsSet);
+            this.categories.addAll (categoriesSet);
+            this.vendors.addAll (vendorsSet);
+        }
+
+        // Load collection filters
+        if (iniFiles.isFxFoldersPresent ())
+            this.parseCollectionFilters (iniFiles.getIniFxFolders ());
+
+        // Improve category assignment
+        for (final DeviceMetadataImpl device: this.devices)
+        {
+            if (!device.isCategorized ())
             {
-                if (!device.isCategorized ())
-                {
-                    final String deviceName = device.name ();
-                    final String category = findCategory (deviceName);
-                    if (category != null)
-                        device.addCategory (category);
-                }
-                else if (device.hasCategory ("MIDI"))
-                    device.setType (DeviceType.MIDI_EFFECT);
+                final String deviceName = device.name ();
+                final String category = findCategory (deviceName);
+                if (category != null)
+                    device.addCategory (category);
+            }
+            else if (device.hasCategory ("MIDI"))
+                device.setType (DeviceType.MIDI_EFFECT);
 
-                if (device.hasCategory ("Utility"))
-                {
-                    device.setCategory ("Tools");
-                    this.categories.add ("Tools");
-                }
-                if (device.hasCategory ("Pitch Shift"))
-                {
-                    device.setCategory ("Pitch");
-                    this.categories.add ("Pitch");
-                }
+            if (device.hasCategory ("Utility"))
+            {
+                device.setCategory ("Tools");
+                this.categories.add ("Tools");
             }
+            if (device.hasCategory ("Pitch Shift"))
+            {
+                device.setCategory ("Pitch");
+                this.categories.add ("Pitch");
+            }
+        }
 
-            this.categories.remove ("Utility");
-            this.categories.remove ("Pitch");
+        this.categories.remove ("Utility");
+        this.categories.remove ("Pitch");
 
-            // Finally sort the devices by their display name
-            this.devices.sort ( (d1, d2) -> d1.getDisplayName ().compareToIgnoreCase (d2.getDisplayName ()));
-        }
+        // Finally sort the devices by their display name
+        this.devices.sort ( (d1, d2) -> d1.getDisplayName ().compareToIgnoreCase (d2.getDisplayName ()));
     }
 
 
@@ -0,0 +1,248 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.device;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * A case-insensitive substring search over a fixed list of entries, e.g. device or preset names.
+ * Each entry can have several texts (e.g. name and vendor). The index maps each n-gram of 1 to 3
+ * consecutive characters to the sorted list of the entries which contain it. Search terms with up
+ * to 3 characters are a single lookup. Longer terms intersect the lists of all their trigrams and
+ * only test the remaining candidates. The index is immutable.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TextSearchIndex
+{
+    private static final int        GRAM_LENGTH = 3;
+    private static final char       SEPARATOR   = '\n';
+
+    private final String []         names;
+    private final String []         texts;
+    private final Map<Long, int []> postings;
+
+
+    /**
+     * Constructor.
+     *
+     * @param entries The texts of each entry, the first text is the name of the entry which is
+     *            used for prefix matches, null texts are ignored
+     */
+    public TextSearchIndex (final String [] [] entries)
+    {
+        this.names = new String [entries.length];
+        this.texts = new String [entries.length];
+
+        final Map<Long, Postings> lists = new HashMap<> ();
+        final StringBuilder sb = new StringBuilder ();
+        for (int i = 0; i < entries.length; i++)
+        {
+            sb.setLength (0);
+            for (final String text: entries[i])
+            {
+                if (text == null)
+                    continue;
+                if (!sb.isEmpty ())
+                    sb.append (SEPARATOR);
+                sb.append (text.toLowerCase (Locale.US));
+            }
+            final String text = sb.toString ();
+            this.texts[i] = text;
+            this.names[i] = entries[i].length > 0 && entries[i][0] != null ? entries[i][0].toLowerCase (Locale.US) : "";
+
+            for (int pos = 0; pos < text.length (); pos++)
+            {
+                for (int length = 1; length <= GRAM_LENGTH && pos + length <= text.length (); length++)
+                    lists.computeIfAbsent (Long.valueOf (getGram (text, pos, length)), key -> new Postings ()).add (i);
+            }
+        }
+
+        this.postings = new HashMap<> (lists.size ());
+        for (final Map.Entry<Long, Postings> e: lists.entrySet ())
+            this.postings.put (e.getKey (), e.getValue ().toArray ());
+    }
+
+
+    /**
+     * Get the number of entries.
+     *
+     * @return The number of entries
+     */
+    public int size ()
+    {
+        return this.texts.length;
+    }
+
+
+    /**
+     * Find all entries which contain the search text. If the search text contains several words,
+     * an entry must contain all of them.
+     *
+     * @param searchText The text to search for
+     * @return The indices of the matching entries, all entries if the search text is empty
+     */
+    public BitSet search (final String searchText)
+    {
+        final BitSet result = new BitSet (this.texts.length);
+        result.set (0, this.texts.length);
+        if (searchText == null)
+            return result;
+
+        for (final String term: searchText.toLowerCase (Locale.US).trim ().split ("\\s+"))
+        {
+            if (!term.isEmpty ())
+                this.searchTerm (term, result);
+            if (result.isEmpty ())
+                break;
+        }
+        return result;
+    }
+
+
+    /**
+     * Check if the name of an entry starts with the search text.
+     *
+     * @param index The index of the entry
+     * @param searchText The search text
+     * @return True if it starts with the search text
+     */
+    public boolean isPrefix (final int index, final String searchText)
+    {
+        return this.names[index].startsWith (searchText.toLowerCase (Locale.US).trim ());
+    }
+
+
+    /**
+     * Removes all entries from the result which do not contain the term.
+     *
+     * @param term The lower case search term
+     * @param result The result to filter
+     */
+    private void searchTerm (final String term, final BitSet result)
+    {
+        final int [] candidates = this.getCandidates (term);
+        final BitSet matches = new BitSet (this.texts.length);
+        for (final int index: candidates)
+            matches.set (index);
+        result.and (matches);
+
+        if (term.length () <= GRAM_LENGTH)
+            return;
+
+        // Trigrams only narrow the candidates down, check that the term is really contained
+        for (int i = result.nextSetBit (0); i >= 0; i = result.nextSetBit (i + 1))
+        {
+            if (!this.texts[i].contains (term))
+                result.clear (i);
+        }
+    }
+
+
+    /**
+     * Get the entries which contain all n-grams of the term.
+     *
+     * @param term The term
+     * @return The sorted indices of the candidates
+     */
+    private int [] getCandidates (final String term)
+    {
+        final int length = Math.min (term.length (), GRAM_LENGTH);
+        final int count = term.length () - length + 1;
+        final int [] [] lists = new int [count] [];
+        for (int pos = 0; pos < count; pos++)
+        {
+            final int [] list = this.postings.get (Long.valueOf (getGram (term, pos, length)));
+            if (list == null)
+                return new int [0];
+            lists[pos] = list;
+        }
+
+        // Start with the shortest list to keep the number of candidates small
+        Arrays.sort (lists, (l1, l2) -> Integer.compare (l1.length, l2.length));
+        int [] candidates = lists[0];
+        for (int l = 1; l < lists.length && candidates.length > 0; l++)
+            candidates = intersect (candidates, lists[l]);
+        return candidates;
+    }
+
+
+    /**
+     * Intersect two sorted lists.
+     *
+     * @param list1 The first list
+     * @param list2 The second list
+     * @return The indices contained in both lists
+     */
+    private static int [] intersect (final int [] list1, final int [] list2)
+    {
+        final int [] result = new int [Math.min (list1.length, list2.length)];
+        int count = 0;
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < list1.length && i2 < list2.length)
+        {
+            final int diff = list1[i1] - list2[i2];
+            if (diff < 0)
+                i1++;
+            else if (diff > 0)
+                i2++;
+            else
+            {
+                result[count++] = list1[i1];
+                i1++;
+                i2++;
+            }
+        }
+        return Arrays.copyOf (result, count);
+    }
+
+
+    /**
+     * Encodes up to 3 characters and the number of characters into one value.
+     *
+     * @param text The text
+     * @param pos The position of the first character
+     * @param length The number of characters, 1 to 3
+     * @return The encoded n-gram
+     */
+    private static long getGram (final String text, final int pos, final int length)
+    {
+        long gram = length;
+        for (int i = 0; i < length; i++)
+            gram = gram << 16 | text.charAt (pos + i);
+        return gram;
+    }
+
+
+    /** A growing sorted list of entry indices. */
+    private static class Postings
+    {
+        private int [] indices = new int [4];
+        private int    size;
+
+
+        void add (final int index)
+        {
+            // Entries are added in ascending order, ignore repeated trigrams of the same entry
+            if (this.size > 0 && this.indices[this.size - 1] == index)
+                return;
+            if (this.size == this.indices.length)
+                this.indices = Arrays.copyOf (this.indices, 2 * this.size);
+            this.indices[this.size++] = index;
+        }
+
+
+        int [] toArray ()
+        {
+            return Arrays.copyOf (this.indices, this.size);
+        }
+    }
+}
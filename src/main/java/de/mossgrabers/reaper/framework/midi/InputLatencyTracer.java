@@ -0,0 +1,347 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.midi;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Optional tracing of the latency of MIDI input. A sampled message is time stamped when it arrives
+ * from the backend, when it was matched to a control of a surface, when the related command was
+ * executed and when the first call into the backend happened as a result. The results are collected
+ * in histograms per MIDI input (surface), control type and stage.
+ *
+ * Since the whole processing of a MIDI message happens on the thread which received it, the current
+ * trace is kept in a thread local. If tracing is disabled, all methods return immediately.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class InputLatencyTracer
+{
+    /** The type of the control which received the message. */
+    public enum ControlType
+    {
+        /** A button (note or CC). */
+        BUTTON,
+        /** A continuous control (knob, fader, pitch bend). */
+        CONTINUOUS,
+        /** The touch of a continuous control. */
+        TOUCH,
+        /** Not matched to a control, handled by the MIDI callback of the surface. */
+        CALLBACK,
+        /** A system exclusive message. */
+        SYSEX,
+        /** The message was not handled at all. */
+        UNMATCHED
+    }
+
+
+    /** The measured stages, all relative to the arrival of the message. */
+    public enum Stage
+    {
+        /** The message was matched to a control. */
+        MATCHED,
+        /** The command of the control was executed. */
+        EXECUTED,
+        /** The first call into the backend caused by the message. */
+        BACKEND
+    }
+
+
+    private static final InputLatencyTracer    INSTANCE       = new InputLatencyTracer ();
+
+    /** The histogram buckets are powers of 2 in microseconds, the last one collects all above. */
+    private static final int                   NUM_BUCKETS    = 24;
+
+    private volatile int                       sampleRate     = 0;
+    private final AtomicLong                   messageCounter = new AtomicLong ();
+    private final ThreadLocal<Trace>           currentTrace   = ThreadLocal.withInitial (Trace::new);
+    private final Map<String, StageHistograms> histograms     = new ConcurrentHashMap<> ();
+
+
+    /**
+     * Get the single instance.
+     *
+     * @return The instance
+     */
+    public static InputLatencyTracer get ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Private due to singleton.
+     */
+    private InputLatencyTracer ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Set the sample rate.
+     *
+     * @param sampleRate 0 disables tracing, 1 traces every message, n traces every n-th message
+     */
+    public void setSampleRate (final int sampleRate)
+    {
+        this.sampleRate = Math.max (0, sampleRate);
+    }
+
+
+    /**
+     * Is tracing enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.sampleRate > 0;
+    }
+
+
+    /**
+     * Start the trace of a message which arrived from the backend, if it is sampled.
+     */
+    public void begin ()
+    {
+        final int rate = this.sampleRate;
+        if (rate <= 0 || this.messageCounter.getAndIncrement () % rate != 0)
+            return;
+        this.currentTrace.get ().start (System.nanoTime ());
+    }
+
+
+    /**
+     * The current message was matched to a control.
+     *
+     * @param source The name of the MIDI input which received the message
+     * @param controlType The type of the control
+     */
+    public void matched (final String source, final ControlType controlType)
+    {
+        if (this.sampleRate <= 0)
+            return;
+        final Trace trace = this.currentTrace.get ();
+        if (trace.isActive && trace.matched == 0)
+        {
+            trace.matched = System.nanoTime ();
+            trace.source = source;
+            trace.controlType = controlType;
+        }
+    }
+
+
+    /**
+     * The command triggered by the current message was executed.
+     */
+    public void executed ()
+    {
+        if (this.sampleRate <= 0)
+            return;
+        final Trace trace = this.currentTrace.get ();
+        if (trace.isActive && trace.executed == 0)
+            trace.executed = System.nanoTime ();
+    }
+
+
+    /**
+     * A call into the backend happened. Only the first one of a traced message is recorded.
+     */
+    public void backendCalled ()
+    {
+        if (this.sampleRate <= 0)
+            return;
+        final Trace trace = this.currentTrace.get ();
+        if (trace.isActive && trace.backend == 0)
+            trace.backend = System.nanoTime ();
+    }
+
+
+    /**
+     * Finish the trace of the current message and add the measured times to the histograms.
+     */
+    public void end ()
+    {
+        if (this.sampleRate <= 0)
+            return;
+        final Trace trace = this.currentTrace.get ();
+        if (!trace.isActive)
+            return;
+        trace.isActive = false;
+
+        final String source = trace.source == null ? "-" : trace.source;
+        final ControlType controlType = trace.controlType == null ? ControlType.UNMATCHED : trace.controlType;
+        final StageHistograms stageHistograms = this.histograms.computeIfAbsent (source + ";" + controlType.name (), key -> new StageHistograms ());
+        stageHistograms.add (Stage.MATCHED, trace.matched, trace.start);
+        stageHistograms.add (Stage.EXECUTED, trace.executed, trace.start);
+        stageHistograms.add (Stage.BACKEND, trace.backend, trace.start);
+    }
+
+
+    /**
+     * Remove all collected measurements.
+     */
+    public void clear ()
+    {
+        this.histograms.clear ();
+    }
+
+
+    /**
+     * Export the collected histograms as a CSV file. There is one line for each MIDI input, control
+     * type and stage. All times are in microseconds. The bucket columns contain the number of
+     * samples which are less or equal than the bucket limit.
+     *
+     * @param file The file to write to
+     * @throws IOException Could not write the file
+     */
+    public void exportCSV (final File file) throws IOException
+    {
+        try (final Writer writer = new FileWriter (file))
+        {
+            final StringBuilder header = new StringBuilder ("Source;Control Type;Stage;Samples;Mean;Max;P50;P90;P99");
+            for (int i = 0; i < NUM_BUCKETS; i++)
+                header.append (";<=").append (getBucketLimit (i));
+            writer.write (header.append ('\n').toString ());
+
+            for (final Map.Entry<String, StageHistograms> entry: new TreeMap<> (this.histograms).entrySet ())
+            {
+                for (final Stage stage: Stage.values ())
+                {
+                    final Histogram histogram = entry.getValue ().get (stage);
+                    final long count = histogram.count.get ();
+                    if (count == 0)
+                        continue;
+
+                    final StringBuilder line = new StringBuilder (entry.getKey ()).append (';').append (stage.name ()).append (';').append (count);
+                    line.append (';').append (String.format (Locale.US, "%.1f", Double.valueOf (histogram.sum.get () / 1000.0 / count)));
+                    line.append (';').append (histogram.max.get () / 1000);
+                    line.append (';').append (histogram.getPercentile (0.5));
+                    line.append (';').append (histogram.getPercentile (0.9));
+                    line.append (';').append (histogram.getPercentile (0.99));
+                    for (int i = 0; i < NUM_BUCKETS; i++)
+                        line.append (';').append (histogram.buckets.get (i));
+                    writer.write (line.append ('\n').toString ());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Get the upper limit of a bucket.
+     *
+     * @param bucket The index of the bucket
+     * @return The limit in microseconds
+     */
+    private static long getBucketLimit (final int bucket)
+    {
+        return 1L << bucket;
+    }
+
+
+    /** The time stamps of the message which is currently traced on a thread. */
+    private static class Trace
+    {
+        boolean     isActive;
+        long        start;
+        long        matched;
+        long        executed;
+        long        backend;
+        String      source;
+        ControlType controlType;
+
+
+        void start (final long time)
+        {
+            this.isActive = true;
+            this.start = time;
+            this.matched = 0;
+            this.executed = 0;
+            this.backend = 0;
+            this.source = null;
+            this.controlType = null;
+        }
+    }
+
+
+    /** The histograms of all stages. */
+    private static class StageHistograms
+    {
+        private final Histogram [] histograms = new Histogram [Stage.values ().length];
+
+
+        StageHistograms ()
+        {
+            for (int i = 0; i < this.histograms.length; i++)
+                this.histograms[i] = new Histogram ();
+        }
+
+
+        void add (final Stage stage, final long time, final long start)
+        {
+            if (time != 0)
+                this.histograms[stage.ordinal ()].add (time - start);
+        }
+
+
+        Histogram get (final Stage stage)
+        {
+            return this.histograms[stage.ordinal ()];
+        }
+    }
+
+
+    /** A histogram with logarithmic buckets. */
+    private static class Histogram
+    {
+        final AtomicLongArray buckets = new AtomicLongArray (NUM_BUCKETS);
+        final AtomicLong      count   = new AtomicLong ();
+        final AtomicLong      sum     = new AtomicLong ();
+        final AtomicLong      max     = new AtomicLong ();
+
+
+        void add (final long nanos)
+        {
+            final long micros = Math.max (0, nanos / 1000);
+            final int bucket = micros <= 1 ? 0 : Math.min (NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros (micros - 1));
+            this.buckets.incrementAndGet (bucket);
+            this.count.incrementAndGet ();
+            this.sum.addAndGet (nanos);
+            this.max.accumulateAndGet (nanos, Math::max);
+        }
+
+
+        /**
+         * Get the upper bucket limit which contains the given percentile.
+         *
+         * @param percentile The percentile in the range of [0..1]
+         * @return The limit in microseconds
+         */
+        long getPercentile (final double percentile)
+        {
+            final long threshold = (long) Math.ceil (this.count.get () * percentile);
+            long sumCount = 0;
+            for (int i = 0; i < NUM_BUCKETS; i++)
+            {
+                sumCount += this.buckets.get (i);
+                if (sumCount >= threshold)
+                    return getBucketLimit (i);
+            }
+            return getBucketLimit (NUM_BUCKETS - 1);
+        }
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.reaper.framework.midi;
 
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -13,7 +14,9 @@ import de.mossgrabers.reaper.ui.utils.LogModel;
 
 import javax.sound.midi.MidiDevice;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
@@ -31,9 +34,11 @@ public class MidiAccessImpl implements IMidiAccess
     private static final Map<String, ReaperMidiDevice> OUTPUTS = new TreeMap<> ();
 
     private final IHost                                host;
+    private final ModelEpoch                           modelEpoch;
     private final MidiConnection []                    midiConnections;
     private final MidiDevice []                        inputs;
     private final MidiDevice []                        outputs;
+    private final List<MidiInputImpl>                  createdInputs = new ArrayList<> ();
 
 
     /**
@@ -41,12 +46,14 @@ public class MidiAccessImpl implements IMidiAccess
      *
      * @param logModel The logging model
      * @param host The host
+     * @param modelEpoch Marks the changes of the model, which are triggered by MIDI input
      * @param inputs The MIDI input devices
      * @param outputs The MIDI output devices
      */
-    public MidiAccessImpl (final LogModel logModel, final IHost host, final MidiDevice [] inputs, final MidiDevice [] outputs)
+    public MidiAccessImpl (final LogModel logModel, final IHost host, final ModelEpoch modelEpoch, final MidiDevice [] inputs, final MidiDevice [] outputs)
     {
         this.host = host;
+        this.modelEpoch = modelEpoch;
         this.inputs = inputs;
         this.outputs = outputs;
 
@@ -107,7 +114,19 @@ public class MidiAccessImpl implements IMidiAccess
     @Override
     public IMidiInput createInput (final int index, final String name, final String... filters)
     {
-        return new MidiInputImpl (this.host, backend, this.midiConnections[index], this.inputs[index], filters);
+        final MidiInputImpl input = new MidiInputImpl (this.host, this.modelEpoch, backend, this.midiConnections[index], this.inputs[index], filters);
+        this.createdInputs.add (input);
+        return input;
+    }
+
+
+    /**
+     * Hand the coalesced values of continuous controls of all inputs to the controls.
+     */
+    public void flush ()
+    {
+        for (final MidiInputImpl input: this.createdInputs)
+            input.flushCoalescedInput ();
     }
 
 
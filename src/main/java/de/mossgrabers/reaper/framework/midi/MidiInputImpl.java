@@ -11,8 +11,11 @@ import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.controller.hardware.IHwContinuousControl;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.controller.valuechanger.RelativeValueChangers;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
@@ -21,6 +24,7 @@ import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.reaper.communication.BackendExchange;
 import de.mossgrabers.reaper.framework.hardware.AbstractHwAbsoluteControl;
+import de.mossgrabers.reaper.framework.midi.InputLatencyTracer.ControlType;
 
 import javax.sound.midi.MidiDevice;
 import javax.sound.midi.MidiMessage;
@@ -30,6 +34,8 @@ import javax.sound.midi.SysexMessage;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -44,9 +50,11 @@ import java.util.Map.Entry;
 public class MidiInputImpl implements IMidiInput
 {
     private final IHost                                               host;
+    private final ModelEpoch                                          modelEpoch;
     private final BackendExchange                                     sender;
     private final MidiConnection                                      midiConnection;
     private final MidiDevice                                          device;
+    private final String                                              deviceName;
     private final NoteInputImpl                                       defaultNoteInput;
     private final List<NoteInputImpl>                                 noteInputs                  = new ArrayList<> ();
 
@@ -59,6 +67,8 @@ public class MidiInputImpl implements IMidiInput
     private final Map<Integer, IHwContinuousControl>                  pitchbendContinuousMatchers = new HashMap<> ();
     private final Map<Integer, Map<Integer, IHwContinuousControl>>    ccTouchMatchers             = new HashMap<> ();
     private final Map<Integer, Map<Integer, IHwContinuousControl>>    noteTouchMatchers           = new HashMap<> ();
+    private final Map<IHwContinuousControl, RelativeEncoding>         relativeEncodings           = new HashMap<> ();
+    private final Map<IHwContinuousControl, CoalescedValue>           coalescedValues             = new LinkedHashMap<> ();
 
     private final int []                                              lastCCValues                = new int [32];
     private int                                                       noteInputIndex              = 0;
@@ -67,6 +77,7 @@ public class MidiInputImpl implements IMidiInput
      * Constructor.
      *
      * @param host The host
+     * @param modelEpoch Marks the changes of the model, which are triggered by MIDI input
      * @param sender The OSC sender
      * @param midiConnection The MIDI connection
      * @param device The MIDI device
@@ -75,12 +86,14 @@ public class MidiInputImpl implements IMidiInput
      *            {@null}, a standard filter will be used to forward note-related messages on
      *            channel 1 (0).
      */
-    public MidiInputImpl (final IHost host, final BackendExchange sender, final MidiConnection midiConnection, final MidiDevice device, final String [] filters)
+    public MidiInputImpl (final IHost host, final ModelEpoch modelEpoch, final BackendExchange sender, final MidiConnection midiConnection, final MidiDevice device, final String [] filters)
     {
         this.host = host;
+        this.modelEpoch = modelEpoch;
         this.sender = sender;
         this.midiConnection = midiConnection;
         this.device = device;
+        this.deviceName = device.getDeviceInfo ().getName ();
 
         this.midiConnection.setInput (this.device, (message, timeStamp) -> this.handleMidiMessage (message));
         this.defaultNoteInput = new NoteInputImpl (device, this.noteInputIndex, sender, filters);
@@ -208,7 +221,8 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void bind (final IHwRelativeKnob knob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
     {
-        // No encoding
+        // No encoding, only required for coalescing the relative values
+        this.relativeEncodings.put (knob, encoding);
         this.bindContinuous (knob, type, channel, control);
     }
 
@@ -318,6 +332,8 @@ public class MidiInputImpl implements IMidiInput
      */
     public void handleMidiMessage (final MidiMessage message)
     {
+        // Commands might change the model
+        this.modelEpoch.beginUpdate ();
         try
         {
             if (message instanceof final SysexMessage sysex)
@@ -334,6 +350,10 @@ public class MidiInputImpl implements IMidiInput
         {
             this.host.error ("Could not handle MIDI message.", ex);
         }
+        finally
+        {
+            this.modelEpoch.endUpdate ();
+        }
     }
 
 
@@ -356,10 +376,17 @@ public class MidiInputImpl implements IMidiInput
         final boolean isProcessed = this.handleControls (command, channel, data1, data2);
         // Still forward MIDI notes
         if (isProcessed && (command != MidiConstants.CMD_NOTE_ON && command != MidiConstants.CMD_NOTE_OFF))
+        {
+            InputLatencyTracer.get ().executed ();
             return;
+        }
 
         if (this.shortCallback != null)
+        {
+            InputLatencyTracer.get ().matched (this.deviceName, ControlType.CALLBACK);
             this.shortCallback.handleMidi (status, data1, data2);
+        }
+        InputLatencyTracer.get ().executed ();
     }
 
 
@@ -413,6 +440,7 @@ public class MidiInputImpl implements IMidiInput
                     final int value = valueButtonPair.getKey ().intValue ();
                     if (value == -1 || value == data2)
                     {
+                        InputLatencyTracer.get ().matched (this.deviceName, ControlType.BUTTON);
                         valueButtonPair.getValue ().trigger (isNoteOff ? ButtonEvent.UP : ButtonEvent.DOWN, data2 / 127.0);
                         return true;
                     }
@@ -426,6 +454,8 @@ public class MidiInputImpl implements IMidiInput
             final IHwContinuousControl ccButton = noteTouchMap.get (Integer.valueOf (data1));
             if (ccButton != null && ccButton.isBound ())
             {
+                InputLatencyTracer.get ().matched (this.deviceName, ControlType.TOUCH);
+                this.flushCoalescedInput (ccButton);
                 ccButton.triggerTouch (!isNoteOff);
                 return true;
             }
@@ -449,6 +479,7 @@ public class MidiInputImpl implements IMidiInput
                     if (value == -1 || value == data2)
                     {
                         final ButtonEvent event = value == 0 || data2 > 0 ? ButtonEvent.DOWN : ButtonEvent.UP;
+                        InputLatencyTracer.get ().matched (this.deviceName, ControlType.BUTTON);
                         valueButtonPair.getValue ().trigger (event, data2 / 127.0);
                         return true;
                     }
@@ -463,6 +494,8 @@ public class MidiInputImpl implements IMidiInput
             final IHwContinuousControl ccButton = ccTouchMap.get (Integer.valueOf (data1));
             if (ccButton != null && ccButton.isBound ())
             {
+                InputLatencyTracer.get ().matched (this.deviceName, ControlType.TOUCH);
+                this.flushCoalescedInput (ccButton);
                 ccButton.triggerTouch (data2 > 0);
                 return true;
             }
@@ -474,6 +507,8 @@ public class MidiInputImpl implements IMidiInput
             final IHwContinuousControl ccContinuous = ccContinuousMap.get (Integer.valueOf (data1));
             if (ccContinuous != null && ccContinuous.isBound ())
             {
+                InputLatencyTracer.get ().matched (this.deviceName, ControlType.CONTINUOUS);
+
                 // High resolution command? See MIDI 1.0 Detailed Specification 4.2, page 11
                 if (ccContinuous instanceof final AbstractHwAbsoluteControl ac && ac.isHiRes ())
                 {
@@ -486,12 +521,12 @@ public class MidiInputImpl implements IMidiInput
                     {
                         // LSB arrived as well, handle the command
                         final int value = this.lastCCValues[data1 - 32] * 128 + data2;
-                        ccContinuous.handleValue (value / 16383.0);
+                        this.handleValue (ccContinuous, value / 16383.0);
                     }
                     return true;
                 }
 
-                ccContinuous.handleValue (data2 / 127.0);
+                this.handleValue (ccContinuous, data2 / 127.0);
                 return true;
             }
         }
@@ -505,23 +540,168 @@ public class MidiInputImpl implements IMidiInput
         final IHwContinuousControl pbContinuous = this.pitchbendContinuousMatchers.get (Integer.valueOf (channel));
         if (pbContinuous != null && pbContinuous.isBound ())
         {
+            InputLatencyTracer.get ().matched (this.deviceName, ControlType.CONTINUOUS);
             final int pitchbendValue = data2 * 128 + data1;
-            pbContinuous.handleValue (pitchbendValue / 16383.0);
+            this.handleValue (pbContinuous, pitchbendValue / 16383.0);
             return true;
         }
         return false;
     }
 
 
+    /**
+     * Hand a value to a continuous control. If input coalescing is enabled for the control, the
+     * value is only stored and handed over with the next flush.
+     *
+     * @param control The control
+     * @param value The value in the range of [0..1], relative values are still encoded
+     */
+    private void handleValue (final IHwContinuousControl control, final double value)
+    {
+        if (!control.isInputCoalescing ())
+        {
+            control.handleValue (value);
+            return;
+        }
+
+        synchronized (this.coalescedValues)
+        {
+            final CoalescedValue coalescedValue = this.coalescedValues.computeIfAbsent (control, key -> new CoalescedValue (this.relativeEncodings.get (key)));
+            if (coalescedValue.valueChanger == null)
+                coalescedValue.value = value;
+            else
+                coalescedValue.delta += coalescedValue.valueChanger.decode ((int) Math.round (value * 127.0));
+        }
+    }
+
+
+    /**
+     * Hand all values, which were collected since the last call, to their continuous controls.
+     * Absolute controls receive the latest value, relative controls the sum of all changes. If the
+     * sum exceeds the range of the relative encoding, the rest is handed over with the next call.
+     */
+    public void flushCoalescedInput ()
+    {
+        final Map<IHwContinuousControl, Double> values;
+        synchronized (this.coalescedValues)
+        {
+            if (this.coalescedValues.isEmpty ())
+                return;
+
+            values = new LinkedHashMap<> (this.coalescedValues.size ());
+            final Iterator<Entry<IHwContinuousControl, CoalescedValue>> iterator = this.coalescedValues.entrySet ().iterator ();
+            while (iterator.hasNext ())
+            {
+                final Entry<IHwContinuousControl, CoalescedValue> entry = iterator.next ();
+                final Double value = entry.getValue ().take ();
+                if (value != null)
+                    values.put (entry.getKey (), value);
+                if (entry.getValue ().isEmpty ())
+                    iterator.remove ();
+            }
+        }
+
+        values.forEach ( (control, value) -> control.handleValue (value.doubleValue ()));
+    }
+
+
+    /**
+     * Hand a collected value to the given control, if any.
+     *
+     * @param control The continuous control
+     */
+    private void flushCoalescedInput (final IHwContinuousControl control)
+    {
+        if (!control.isInputCoalescing ())
+            return;
+
+        final Double value;
+        synchronized (this.coalescedValues)
+        {
+            final CoalescedValue coalescedValue = this.coalescedValues.get (control);
+            if (coalescedValue == null)
+                return;
+            value = coalescedValue.take ();
+            if (coalescedValue.isEmpty ())
+                this.coalescedValues.remove (control);
+        }
+        if (value != null)
+            control.handleValue (value.doubleValue ());
+    }
+
+
     private void handleSysexMessage (final SysexMessage sysexMessage)
     {
         if (this.sysexCallback == null)
             return;
 
+        InputLatencyTracer.get ().matched (this.deviceName, ControlType.SYSEX);
+
         // F0 is not included in getData()
         final StringBuilder dataString = new StringBuilder ();
         for (final byte data: sysexMessage.getMessage ())
             dataString.append (String.format ("%02x", Integer.valueOf (data & 0xFF)));
         this.sysexCallback.handleMidi (dataString.toString ().toUpperCase (Locale.US));
+        InputLatencyTracer.get ().executed ();
+    }
+
+
+    /** Collects the values of a continuous control between two flushes. */
+    private static class CoalescedValue
+    {
+        /** The maximum change which can be encoded in one relative value. */
+        private static final int    MAX_DELTA = 63;
+
+        private final IValueChanger valueChanger;
+        private double              value     = -1;
+        private int                 delta     = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param encoding The encoding of a relative control, null for absolute controls
+         */
+        CoalescedValue (final RelativeEncoding encoding)
+        {
+            this.valueChanger = encoding == null ? null : RelativeValueChangers.get (encoding);
+        }
+
+
+        /**
+         * Take the collected value. For relative controls the remaining change is kept, if it
+         * exceeds the range of one value.
+         *
+         * @return The value in the range of [0..1] (relative values are encoded) or null if there
+         *         is none
+         */
+        Double take ()
+        {
+            if (this.valueChanger == null)
+            {
+                if (this.value < 0)
+                    return null;
+                final double result = this.value;
+                this.value = -1;
+                return Double.valueOf (result);
+            }
+
+            if (this.delta == 0)
+                return null;
+            final int speed = Math.max (-MAX_DELTA, Math.min (MAX_DELTA, this.delta));
+            this.delta -= speed;
+            return Double.valueOf (this.valueChanger.encode (speed) / 127.0);
+        }
+
+
+        /**
+         * Is there nothing left to hand over?
+         *
+         * @return True if empty
+         */
+        boolean isEmpty ()
+        {
+            return this.valueChanger == null ? this.value < 0 : this.delta == 0;
+        }
     }
 }
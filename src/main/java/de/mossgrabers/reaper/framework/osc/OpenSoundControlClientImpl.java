@@ -8,27 +8,46 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
-import com.illposed.osc.OSCBundle;
-import com.illposed.osc.OSCMessage;
-import com.illposed.osc.OSCSerializeException;
-import com.illposed.osc.transport.OSCPortOut;
-
 import java.io.IOException;
 import java.net.InetAddress;
-import java.util.Arrays;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.util.List;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Packets are either sent as UDP
+ * datagrams or as SLIP frames over a TCP connection. The TCP connection is established on the
+ * first send and re-established after an error. Sending over TCP waits until the server has read
+ * the data (backpressure) but gives up and closes the connection if the server does not read for
+ * some time.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final IHost host;
-    private OSCPortOut  connection;
-    private boolean     isClosed = true;
+    /** The size of the encoding buffer for TCP, which limits the size of a single message. */
+    private static final int              TCP_BUFFER_SIZE = 256 * 1024;
+    private static final int              CONNECT_TIMEOUT = 1000;
+    private static final int              WRITE_TIMEOUT   = 2000;
+    private static final int              RECONNECT_DELAY = 2000;
+
+    private final IHost                   host;
+    private final OpenSoundControlEncoder encoder;
+    private final boolean                 useTimeTags;
+    private final boolean                 useTCP;
+    private InetSocketAddress             serverSocketAddress;
+    private DatagramChannel               channel;
+    private boolean                       isClosed        = true;
+
+    private SocketChannel                 tcpChannel;
+    private Selector                      writeSelector;
+    private ByteBuffer                    frame;
+    private long                          nextConnectTime;
 
 
     /**
@@ -37,19 +56,32 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
      * @param host The host
      * @param serverAddress The address of the server to connect to
      * @param serverPort The port of the server to connect to
+     * @param maxPacketSize Bundles are filled up to this number of bytes before a new packet is
+     *            started, only used for UDP
+     * @param useTimeTags Stamp bundles with the current time instead of the immediate time tag
+     * @param useTCP Send SLIP framed packets over TCP instead of UDP datagrams
      */
-    public OpenSoundControlClientImpl (final IHost host, final String serverAddress, final int serverPort)
+    public OpenSoundControlClientImpl (final IHost host, final String serverAddress, final int serverPort, final int maxPacketSize, final boolean useTimeTags, final boolean useTCP)
     {
         this.host = host;
+        this.useTimeTags = useTimeTags;
+        this.useTCP = useTCP;
+
+        // There is no datagram limit for TCP, therefore fill bundles up to the buffer size
+        this.encoder = useTCP ? new OpenSoundControlEncoder (TCP_BUFFER_SIZE, TCP_BUFFER_SIZE) : new OpenSoundControlEncoder (maxPacketSize);
 
         try
         {
-            this.connection = new OSCPortOut (InetAddress.getByName (serverAddress), serverPort);
+            this.serverSocketAddress = new InetSocketAddress (InetAddress.getByName (serverAddress), serverPort);
+            if (useTCP)
+                this.frame = ByteBuffer.allocate (OpenSoundControlSlip.getMaxFrameSize (TCP_BUFFER_SIZE));
+            else
+                this.channel = DatagramChannel.open ();
             this.isClosed = false;
         }
         catch (final IOException ex)
         {
-            this.connection = null;
+            this.channel = null;
             host.error ("Could not connect to OSC server.", ex);
         }
     }
@@ -57,77 +89,156 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 
     /** {@inheritDoc} */
     @Override
-    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    public synchronized void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        if (this.isClosed)
+            return;
+
+        if (!this.encoder.encodeMessage (message))
+            throw new IOException ("OSC message is too large: " + message.getAddress ());
+        this.sendPacket ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
         if (this.isClosed)
             return;
 
+        // Fill each bundle up to the maximum packet size, all bundles get the same time tag
+        final long timeTag = this.useTimeTags ? OpenSoundControlEncoder.createTimeTag (System.currentTimeMillis ()) : OpenSoundControlEncoder.TIME_TAG_IMMEDIATE;
+        this.encoder.startBundle (timeTag);
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            if (this.encoder.addToBundle (message))
+                continue;
+            if (this.encoder.getNumberOfMessages () == 0)
+                throw new IOException ("OSC message is too large: " + message.getAddress ());
+
+            this.sendPacket ();
+            this.encoder.startBundle (timeTag);
+            if (!this.encoder.addToBundle (message))
+                throw new IOException ("OSC message is too large: " + message.getAddress ());
+        }
+        if (this.encoder.getNumberOfMessages () > 0)
+            this.sendPacket ();
+    }
+
+
+    /**
+     * Close the wrapped OSC client and free resources.
+     */
+    public synchronized void close ()
+    {
+        this.isClosed = true;
+
+        this.closeTCP ();
+        if (this.channel == null)
+            return;
         try
         {
-            final String address = message.getAddress ();
-            final Object [] values = message.getValues ();
-            this.connection.send (new OSCMessage (address, Arrays.asList (values)));
+            this.channel.close ();
         }
-        catch (final OSCSerializeException ex)
+        catch (final IOException ex)
         {
-            throw new IOException (ex);
+            this.host.error ("Could not close connection to OSC server.", ex);
         }
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    /**
+     * Send the packet, which is stored in the encoder.
+     *
+     * @throws IOException Could not send the packet
+     */
+    private void sendPacket () throws IOException
     {
-        if (this.isClosed)
+        if (!this.useTCP)
+        {
+            this.channel.send (this.encoder.getPacket (), this.serverSocketAddress);
             return;
+        }
 
+        // Drop the packet while there is no connection, the client needs to request a refresh
+        // after it was (re-)started anyway
+        if (!this.connectTCP ())
+            return;
+
+        this.frame.clear ();
+        OpenSoundControlSlip.encode (this.encoder.getPacket (), this.frame);
+        this.frame.flip ();
         try
         {
-            int pos = 0;
-            OSCBundle oscBundle = new OSCBundle ();
-            for (final IOpenSoundControlMessage message: messages)
+            while (this.frame.hasRemaining ())
             {
-                final String address = message.getAddress ();
-                final Object [] values = message.getValues ();
-                oscBundle.addPacket (new OSCMessage (address, Arrays.asList (values)));
-
-                pos++;
-                // We cannot get the exact size of the message due to the API, so let's try to stay
-                // below 64K, which is the maximum of an UDP message
-                if (pos > 100)
-                {
-                    pos = 0;
-                    this.connection.send (oscBundle);
-                    oscBundle = new OSCBundle ();
-                }
+                if (this.tcpChannel.write (this.frame) == 0 && this.writeSelector.select (WRITE_TIMEOUT) == 0)
+                    throw new IOException ("OSC server did not read any data for " + WRITE_TIMEOUT + " ms.");
+                this.writeSelector.selectedKeys ().clear ();
             }
-            if (!oscBundle.getPackets ().isEmpty ())
-                this.connection.send (oscBundle);
         }
-        catch (final OSCSerializeException ex)
+        catch (final IOException ex)
         {
-            throw new IOException (ex);
+            this.closeTCP ();
+            this.nextConnectTime = System.currentTimeMillis () + RECONNECT_DELAY;
+            throw ex;
         }
     }
 
 
     /**
-     * Close the wrapped OSC client and free resources.
+     * Establish the TCP connection if not connected. After a failed attempt, a new one is only
+     * made after a delay to not block the sending thread.
+     *
+     * @return True if connected
      */
-    public void close ()
+    private boolean connectTCP ()
     {
-        this.isClosed = true;
+        if (this.tcpChannel != null)
+            return true;
+
+        final long now = System.currentTimeMillis ();
+        if (now < this.nextConnectTime)
+            return false;
 
-        if (this.connection == null)
-            return;
         try
         {
-            this.connection.close ();
+            this.tcpChannel = SocketChannel.open ();
+            this.tcpChannel.socket ().setTcpNoDelay (true);
+            this.tcpChannel.socket ().connect (this.serverSocketAddress, CONNECT_TIMEOUT);
+            this.tcpChannel.configureBlocking (false);
+            this.writeSelector = Selector.open ();
+            this.tcpChannel.register (this.writeSelector, SelectionKey.OP_WRITE);
+            this.host.println ("Connected to OSC server via TCP: " + this.serverSocketAddress);
+            return true;
+        }
+        catch (final IOException ex)
+        {
+            this.closeTCP ();
+            this.nextConnectTime = now + RECONNECT_DELAY;
+            return false;
+        }
+    }
+
+
+    private void closeTCP ()
+    {
+        try
+        {
+            if (this.writeSelector != null)
+                this.writeSelector.close ();
+            if (this.tcpChannel != null)
+                this.tcpChannel.close ();
         }
         catch (final IOException ex)
         {
             this.host.error ("Could not close connection to OSC server.", ex);
         }
+        finally
+        {
+            this.writeSelector = null;
+            this.tcpChannel = null;
+        }
     }
 }
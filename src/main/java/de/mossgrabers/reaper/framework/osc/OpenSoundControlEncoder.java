@@ -0,0 +1,279 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.osc;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Encodes OSC messages and bundles into a byte buffer which is re-used for all packets. Bundles are
+ * filled up to a maximum packet size, e.g. to stay below the MTU of the network. A single message,
+ * which is larger than that, is still encoded up to the size of the buffer (by default the maximum
+ * payload of an UDP packet).
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlEncoder
+{
+    /** The maximum payload of an UDP packet. */
+    public static final int      MAX_UDP_PAYLOAD    = 65507;
+
+    /** The time tag which requests the immediate execution of a bundle. */
+    public static final long     TIME_TAG_IMMEDIATE = 1L;
+
+    private static final byte [] BUNDLE_TAG         = "#bundle".getBytes (StandardCharsets.US_ASCII);
+
+    /** Seconds from 1900 (start of the OSC time) to 1970 (start of the Java time). */
+    private static final long    SECONDS_1900_1970  = 2208988800L;
+
+    private final ByteBuffer     buffer;
+    private final int            maxPacketSize;
+    private int                  numberOfMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxPacketSize Bundles are filled up to this number of bytes
+     */
+    public OpenSoundControlEncoder (final int maxPacketSize)
+    {
+        this (maxPacketSize, MAX_UDP_PAYLOAD);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxPacketSize Bundles are filled up to this number of bytes
+     * @param bufferSize The size of the buffer, which limits the size of a single message
+     */
+    public OpenSoundControlEncoder (final int maxPacketSize, final int bufferSize)
+    {
+        this.buffer = ByteBuffer.allocate (bufferSize);
+        this.maxPacketSize = Math.max (64, Math.min (maxPacketSize, bufferSize));
+    }
+
+
+    /**
+     * Create an OSC time tag (NTP format) from a Java time.
+     *
+     * @param millis The milliseconds since 1970
+     * @return The time tag
+     */
+    public static long createTimeTag (final long millis)
+    {
+        final long seconds = millis / 1000 + SECONDS_1900_1970;
+        final long fraction = (millis % 1000 << 32) / 1000;
+        return seconds << 32 | fraction;
+    }
+
+
+    /**
+     * Clears the buffer and encodes a single message.
+     *
+     * @param message The message to encode
+     * @return True if the message fits into the buffer
+     */
+    public boolean encodeMessage (final IOpenSoundControlMessage message)
+    {
+        this.buffer.clear ();
+        this.numberOfMessages = 0;
+        try
+        {
+            this.writeMessage (message);
+            this.numberOfMessages = 1;
+            return true;
+        }
+        catch (final BufferOverflowException ex)
+        {
+            this.buffer.clear ();
+            return false;
+        }
+    }
+
+
+    /**
+     * Clears the buffer and starts a new bundle.
+     *
+     * @param timeTag The time tag of the bundle, see createTimeTag
+     */
+    public void startBundle (final long timeTag)
+    {
+        this.buffer.clear ();
+        this.numberOfMessages = 0;
+        this.writeString (BUNDLE_TAG);
+        this.buffer.putLong (timeTag);
+    }
+
+
+    /**
+     * Adds a message to the current bundle. The first message of a bundle is added even if it
+     * exceeds the maximum packet size.
+     *
+     * @param message The message to add
+     * @return True if the message was added, false if the bundle has no more space left in which
+     *         case the bundle is not modified
+     */
+    public boolean addToBundle (final IOpenSoundControlMessage message)
+    {
+        final int start = this.buffer.position ();
+        try
+        {
+            // The size of the bundle element is written after the message is encoded
+            this.buffer.putInt (0);
+            this.writeMessage (message);
+            if (this.numberOfMessages > 0 && this.buffer.position () > this.maxPacketSize)
+            {
+                this.buffer.position (start);
+                return false;
+            }
+            this.buffer.putInt (start, this.buffer.position () - start - 4);
+            this.numberOfMessages++;
+            return true;
+        }
+        catch (final BufferOverflowException ex)
+        {
+            this.buffer.position (start);
+            return false;
+        }
+    }
+
+
+    /**
+     * Get the number of messages which are encoded in the buffer.
+     *
+     * @return The number of messages
+     */
+    public int getNumberOfMessages ()
+    {
+        return this.numberOfMessages;
+    }
+
+
+    /**
+     * Get the encoded packet. The returned buffer is only valid until the next message or bundle
+     * is encoded.
+     *
+     * @return The buffer which is ready to be read
+     */
+    public ByteBuffer getPacket ()
+    {
+        return this.buffer.duplicate ().flip ();
+    }
+
+
+    private void writeMessage (final IOpenSoundControlMessage message)
+    {
+        this.writeString (message.getAddress ());
+
+        final List<?> values = message instanceof final OpenSoundControlMessageImpl messageImpl ? messageImpl.getValueList () : Arrays.asList (message.getValues ());
+
+        // Type tags
+        this.buffer.put ((byte) ',');
+        for (final Object value: values)
+            this.buffer.put (getTypeTag (value));
+        this.buffer.put ((byte) 0);
+        this.pad ();
+
+        // Arguments
+        for (final Object value: values)
+            this.writeArgument (value);
+    }
+
+
+    private static byte getTypeTag (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof final Boolean booleanValue)
+            return booleanValue.booleanValue () ? (byte) 'T' : (byte) 'F';
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return 'i';
+        if (value instanceof Float)
+            return 'f';
+        if (value instanceof Double)
+            return 'd';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof byte [])
+            return 'b';
+        return 's';
+    }
+
+
+    private void writeArgument (final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return;
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            this.buffer.putInt (((Number) value).intValue ());
+        else if (value instanceof final Float floatValue)
+            this.buffer.putFloat (floatValue.floatValue ());
+        else if (value instanceof final Double doubleValue)
+            this.buffer.putDouble (doubleValue.doubleValue ());
+        else if (value instanceof final Long longValue)
+            this.buffer.putLong (longValue.longValue ());
+        else if (value instanceof final byte [] blob)
+        {
+            this.buffer.putInt (blob.length);
+            this.buffer.put (blob);
+            this.pad ();
+        }
+        else
+            this.writeString (value.toString ());
+    }
+
+
+    /**
+     * Writes a string. Plain ASCII strings, which are the standard case, are written without
+     * creating a temporary byte array.
+     *
+     * @param text The text to write
+     */
+    private void writeString (final String text)
+    {
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+        {
+            if (text.charAt (i) > 127)
+            {
+                this.writeString (text.getBytes (StandardCharsets.UTF_8));
+                return;
+            }
+        }
+
+        if (this.buffer.remaining () < length)
+            throw new BufferOverflowException ();
+        for (int i = 0; i < length; i++)
+            this.buffer.put ((byte) text.charAt (i));
+        this.buffer.put ((byte) 0);
+        this.pad ();
+    }
+
+
+    private void writeString (final byte [] text)
+    {
+        this.buffer.put (text);
+        this.buffer.put ((byte) 0);
+        this.pad ();
+    }
+
+
+    /**
+     * Fill up with zeros to the next multiple of 4 bytes.
+     */
+    private void pad ()
+    {
+        while (this.buffer.position () % 4 != 0)
+            this.buffer.put ((byte) 0);
+    }
+}
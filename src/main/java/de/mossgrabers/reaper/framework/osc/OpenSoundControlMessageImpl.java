@@ -8,6 +8,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.illposed.osc.OSCMessage;
 
+import java.util.Collections;
 import java.util.List;
 
 
@@ -60,4 +61,15 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     {
         return this.values == null ? new Object [0] : this.values.toArray ();
     }
+
+
+    /**
+     * Get the values without copying them.
+     *
+     * @return The values
+     */
+    List<?> getValueList ()
+    {
+        return this.values == null ? Collections.emptyList () : this.values;
+    }
 }
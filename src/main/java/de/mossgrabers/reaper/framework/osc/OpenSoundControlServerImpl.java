@@ -4,8 +4,10 @@
 
 package de.mossgrabers.reaper.framework.osc;
 
+import de.mossgrabers.framework.daw.ModelEpoch;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.utils.RingBufferQueue;
 import de.mossgrabers.reaper.ui.utils.LogModel;
 import de.mossgrabers.reaper.ui.utils.SafeRunLater;
 
@@ -15,25 +17,58 @@ import com.illposed.osc.OSCMessage;
 import com.illposed.osc.OSCPacket;
 import com.illposed.osc.OSCPacketEvent;
 import com.illposed.osc.OSCPacketListener;
+import com.illposed.osc.OSCParseException;
+import com.illposed.osc.OSCParser;
+import com.illposed.osc.OSCSerializerAndParserBuilder;
 import com.illposed.osc.transport.OSCPortIn;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Implementation of an OSC server connection.
+ * Implementation of an OSC server connection. Received messages are added to a queue, which is
+ * processed in batches on the Swing thread. Several continuous values for the same address, which
+ * are received before the batch is processed (e.g. from a moved fader), are collapsed to the latest
+ * one as long as no other kind of message (e.g. a button or a bank change) was received in between.
+ * The latest value keeps its position in the batch.
+ * <p>
+ * Messages are either received as UDP datagrams or as SLIP framed packets over TCP connections. A
+ * TCP connection is not read while the queue is full, which slows down the sending client instead
+ * of dropping messages.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlServerImpl implements IOpenSoundControlServer
 {
-    private final IOpenSoundControlCallback callback;
-    private final Object                    receiverLock = new Object ();
-    private final LogModel                  logModel;
-    private OSCPortIn                       oscReceiver;
-    private int                             port         = -1;
+    private static final int                  QUEUE_CAPACITY     = 4096;
+    private static final int                  MAX_TCP_PACKET     = 1024 * 1024;
+
+    private final IOpenSoundControlCallback   callback;
+    private final boolean                     useTCP;
+    private final Object                      receiverLock       = new Object ();
+    private final LogModel                    logModel;
+    private final ModelEpoch                  modelEpoch;
+    private OSCPortIn                         oscReceiver;
+    private ServerSocketChannel               tcpReceiver;
+    private final List<SocketChannel>         tcpConnections     = new ArrayList<> ();
+    private int                               port               = -1;
+
+    private final RingBufferQueue<OSCMessage> queue              = new RingBufferQueue<> (QUEUE_CAPACITY);
+    private final AtomicBoolean               isDrainScheduled   = new AtomicBoolean ();
+    private final List<OSCMessage>            batch              = new ArrayList<> ();
+    private final Map<String, Integer>        batchIndices       = new HashMap<> ();
+    private long                              collapsedCount     = 0;
+    private long                              loggedDroppedCount = 0;
 
 
     /**
@@ -41,11 +76,15 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
      *
      * @param callback The OSC callback
      * @param logModel For logging
+     * @param modelEpoch Marks the changes of the model, which are triggered by received messages
+     * @param useTCP Receive SLIP framed packets over TCP instead of UDP datagrams
      */
-    public OpenSoundControlServerImpl (final IOpenSoundControlCallback callback, final LogModel logModel)
+    public OpenSoundControlServerImpl (final IOpenSoundControlCallback callback, final LogModel logModel, final ModelEpoch modelEpoch, final boolean useTCP)
     {
         this.callback = callback;
         this.logModel = logModel;
+        this.modelEpoch = modelEpoch;
+        this.useTCP = useTCP;
     }
 
 
@@ -58,6 +97,14 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
             this.port = port;
 
             this.close ();
+            if (this.useTCP)
+            {
+                this.tcpReceiver = ServerSocketChannel.open ();
+                this.tcpReceiver.bind (new InetSocketAddress (port));
+                final ServerSocketChannel receiver = this.tcpReceiver;
+                startThread ("OSC TCP Server " + port, () -> this.acceptConnections (receiver));
+                return;
+            }
             this.oscReceiver = new OSCPortIn (port);
             this.oscReceiver.addPacketListener (new PacketListener ());
             this.oscReceiver.startListening ();
@@ -73,6 +120,51 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     }
 
 
+    /**
+     * Get the number of received messages which are waiting to be processed.
+     *
+     * @return The number of messages
+     */
+    public int getQueueDepth ()
+    {
+        return this.queue.getQueueDepth ();
+    }
+
+
+    /**
+     * Get the maximum number of received messages which were waiting at the same time.
+     *
+     * @return The maximum number of messages
+     */
+    public int getMaxQueueDepth ()
+    {
+        return this.queue.getMaxQueueDepth ();
+    }
+
+
+    /**
+     * Get the number of received messages which were dropped since the queue was full.
+     *
+     * @return The number of dropped messages
+     */
+    public long getDroppedCount ()
+    {
+        return this.queue.getDroppedCount ();
+    }
+
+
+    /**
+     * Get the number of received messages which were not processed since they were replaced by a
+     * newer value for the same address.
+     *
+     * @return The number of collapsed messages
+     */
+    public long getCollapsedCount ()
+    {
+        return this.collapsedCount;
+    }
+
+
     /**
      * Close the server.
      */
@@ -80,6 +172,8 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     {
         synchronized (this.receiverLock)
         {
+            this.closeTCP ();
+
             if (this.oscReceiver == null)
                 return;
 
@@ -96,19 +190,255 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     }
 
 
+    private void closeTCP ()
+    {
+        try
+        {
+            if (this.tcpReceiver != null)
+                this.tcpReceiver.close ();
+            synchronized (this.tcpConnections)
+            {
+                for (final SocketChannel connection: this.tcpConnections)
+                    connection.close ();
+                this.tcpConnections.clear ();
+            }
+        }
+        catch (final IOException ex)
+        {
+            this.logModel.error ("Could not close OSC receiver.", ex);
+        }
+        finally
+        {
+            this.tcpReceiver = null;
+        }
+    }
+
+
+    /**
+     * Accepts TCP connections until the receiver is closed. Each connection is read in its own
+     * thread.
+     *
+     * @param receiver The TCP server channel
+     */
+    private void acceptConnections (final ServerSocketChannel receiver)
+    {
+        try
+        {
+            while (true)
+            {
+                final SocketChannel connection = receiver.accept ();
+                synchronized (this.tcpConnections)
+                {
+                    this.tcpConnections.add (connection);
+                }
+                startThread ("OSC TCP Connection " + connection.getRemoteAddress (), () -> this.readConnection (connection));
+            }
+        }
+        catch (final ClosedChannelException ex)
+        {
+            // Server was closed
+        }
+        catch (final IOException ex)
+        {
+            this.logModel.error ("Could not accept OSC connection.", ex);
+        }
+    }
+
+
+    /**
+     * Reads and decodes the SLIP frames of a TCP connection until it is closed.
+     *
+     * @param connection The connection
+     */
+    private void readConnection (final SocketChannel connection)
+    {
+        final OSCParser parser = new OSCSerializerAndParserBuilder ().buildParser ();
+        final OpenSoundControlSlip slip = new OpenSoundControlSlip (MAX_TCP_PACKET);
+        final ByteBuffer input = ByteBuffer.allocate (64 * 1024);
+        try
+        {
+            while (connection.read (input) >= 0)
+            {
+                input.flip ();
+                slip.decode (input, packet -> {
+                    try
+                    {
+                        this.collectMessages (parser.convert (packet), true);
+                    }
+                    catch (final OSCParseException ex)
+                    {
+                        this.logModel.error ("Could not parse message.", ex);
+                    }
+                });
+                input.clear ();
+            }
+        }
+        catch (final ClosedChannelException ex)
+        {
+            // Server was closed
+        }
+        catch (final IOException ex)
+        {
+            this.logModel.info ("OSC connection closed: " + ex.getMessage ());
+        }
+        finally
+        {
+            synchronized (this.tcpConnections)
+            {
+                this.tcpConnections.remove (connection);
+            }
+            try
+            {
+                connection.close ();
+            }
+            catch (final IOException ex)
+            {
+                // Ignore
+            }
+        }
+    }
+
+
+    private static void startThread (final String name, final Runnable runnable)
+    {
+        final Thread thread = new Thread (runnable, name);
+        thread.setDaemon (true);
+        thread.start ();
+    }
+
+
+    /**
+     * Add all messages of a packet to the queue.
+     *
+     * @param packet A message or a bundle
+     * @param wait If true waits for free space if the queue is full otherwise the message is
+     *            dropped
+     */
+    private void collectMessages (final OSCPacket packet, final boolean wait)
+    {
+        if (packet instanceof final OSCMessage osc)
+            this.enqueue (osc, wait);
+        else if (packet instanceof final OSCBundle bundle)
+        {
+            for (final OSCPacket op: bundle.getPackets ())
+                this.collectMessages (op, wait);
+        }
+    }
+
+
+    /**
+     * Add a received message to the queue and trigger its processing on the Swing thread, if not
+     * already done.
+     *
+     * @param message The message
+     * @param wait If true waits for free space if the queue is full otherwise the message is
+     *            dropped
+     */
+    private void enqueue (final OSCMessage message, final boolean wait)
+    {
+        if (wait)
+        {
+            try
+            {
+                this.queue.put (message);
+            }
+            catch (final InterruptedException ex)
+            {
+                Thread.currentThread ().interrupt ();
+                return;
+            }
+        }
+        else
+            this.queue.offer (message);
+        if (!this.isDrainScheduled.getAndSet (true))
+            SafeRunLater.execute (this.logModel, this::drain);
+    }
+
+
+    /**
+     * Process all queued messages. Must only be called from the Swing thread.
+     */
+    private void drain ()
+    {
+        // Reset first, messages which are added from now on trigger a new drain
+        this.isDrainScheduled.set (false);
+
+        // Values before this position must not be dropped since a later message might depend on
+        // them, e.g. a fader value before a bank change
+        int barrier = 0;
+        OSCMessage message;
+        while ((message = this.queue.poll ()) != null)
+        {
+            if (isCollapsible (message))
+            {
+                final Integer index = this.batchIndices.put (message.getAddress (), Integer.valueOf (this.batch.size ()));
+                if (index != null && index.intValue () >= barrier)
+                {
+                    // Drop the earlier value, the latest one is added at its own position
+                    this.batch.set (index.intValue (), null);
+                    this.collapsedCount++;
+                }
+            }
+            else
+                barrier = this.batch.size () + 1;
+            this.batch.add (message);
+        }
+
+        // The commands might change the model
+        this.modelEpoch.beginUpdate ();
+        try
+        {
+            for (final OSCMessage m: this.batch)
+            {
+                if (m != null)
+                    this.callback.handle (new OpenSoundControlMessageImpl (m));
+            }
+        }
+        finally
+        {
+            this.modelEpoch.endUpdate ();
+            this.batch.clear ();
+            this.batchIndices.clear ();
+        }
+
+        final long droppedCount = this.queue.getDroppedCount ();
+        if (droppedCount != this.loggedDroppedCount)
+        {
+            this.logModel.info ("OSC receive queue is full, dropped " + (droppedCount - this.loggedDroppedCount) + " messages (total: " + droppedCount + ").");
+            this.loggedDroppedCount = droppedCount;
+        }
+    }
+
+
+    /**
+     * Only continuous values can be collapsed, which are sent as a single floating point value.
+     * Triggers and notes are sent as integers and must not be collapsed. Many controllers (e.g.
+     * TouchOSC) send buttons as floating point values of 1 and 0, therefore these values are not
+     * collapsed either.
+     *
+     * @param message The message to test
+     * @return True if the message can be replaced by a later message for the same address
+     */
+    private static boolean isCollapsible (final OSCMessage message)
+    {
+        final List<?> arguments = message.getArguments ();
+        if (arguments.size () != 1)
+            return false;
+        final Object value = arguments.get (0);
+        if (!(value instanceof Float || value instanceof Double))
+            return false;
+        final double v = ((Number) value).doubleValue ();
+        return v != 0 && v != 1;
+    }
+
+
     private class PacketListener implements OSCPacketListener
     {
         /** {@inheritDoc} */
         @Override
         public void handlePacket (final OSCPacketEvent event)
         {
-            final List<OSCMessage> messages = new ArrayList<> ();
-            this.collectMessages (messages, event.getPacket ());
-
-            SafeRunLater.execute (OpenSoundControlServerImpl.this.logModel, () -> {
-                for (final OSCMessage message: messages)
-                    OpenSoundControlServerImpl.this.callback.handle (new OpenSoundControlMessageImpl (message));
-            });
+            OpenSoundControlServerImpl.this.collectMessages (event.getPacket (), false);
         }
 
 
@@ -118,17 +448,5 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
         {
             OpenSoundControlServerImpl.this.logModel.error ("Could not parse message.", event.getException ());
         }
-
-
-        private void collectMessages (final List<OSCMessage> messages, final OSCPacket packet)
-        {
-            if (packet instanceof final OSCMessage osc)
-                messages.add (osc);
-            else if (packet instanceof final OSCBundle bundle)
-            {
-                for (final OSCPacket op: bundle.getPackets ())
-                    this.collectMessages (messages, op);
-            }
-        }
     }
 }
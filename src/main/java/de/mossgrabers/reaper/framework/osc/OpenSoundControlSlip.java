@@ -0,0 +1,155 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2025
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.reaper.framework.osc;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+
+/**
+ * SLIP framing (RFC 1055) of OSC packets for stream based transports like TCP as specified by OSC
+ * 1.1. Each packet is sent with an END byte before and after it (double ended SLIP), END and ESC
+ * bytes in the packet are escaped. An instance decodes a stream of received bytes into packets.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlSlip
+{
+    private static final byte END     = (byte) 0xC0;
+    private static final byte ESC     = (byte) 0xDB;
+    private static final byte ESC_END = (byte) 0xDC;
+    private static final byte ESC_ESC = (byte) 0xDD;
+
+    private final int         maxPacketSize;
+    private ByteBuffer        packet  = ByteBuffer.allocate (4096);
+    private boolean           isEscaped;
+    private boolean           isOverflow;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxPacketSize Received packets which are larger than this number of bytes are dropped
+     */
+    public OpenSoundControlSlip (final int maxPacketSize)
+    {
+        this.maxPacketSize = maxPacketSize;
+    }
+
+
+    /**
+     * Get the number of bytes which are required at maximum to encode a packet.
+     *
+     * @param packetSize The size of the packet
+     * @return The size of the frame
+     */
+    public static int getMaxFrameSize (final int packetSize)
+    {
+        return 2 * packetSize + 2;
+    }
+
+
+    /**
+     * Encode a packet as a SLIP frame.
+     *
+     * @param packet The packet to encode, is read from its position to its limit
+     * @param frame Where to write the frame, must have at least getMaxFrameSize bytes remaining
+     */
+    public static void encode (final ByteBuffer packet, final ByteBuffer frame)
+    {
+        frame.put (END);
+        while (packet.hasRemaining ())
+        {
+            final byte b = packet.get ();
+            if (b == END)
+                frame.put (ESC).put (ESC_END);
+            else if (b == ESC)
+                frame.put (ESC).put (ESC_ESC);
+            else
+                frame.put (b);
+        }
+        frame.put (END);
+    }
+
+
+    /**
+     * Decode received bytes. A packet can be split across several calls. Empty frames (the END
+     * bytes of double ended SLIP) are ignored.
+     *
+     * @param input The received bytes, is read from its position to its limit
+     * @param packetHandler Is called with each completely received packet, the buffer is only valid
+     *            during the call
+     */
+    public void decode (final ByteBuffer input, final Consumer<ByteBuffer> packetHandler)
+    {
+        while (input.hasRemaining ())
+        {
+            byte b = input.get ();
+
+            if (b == END)
+            {
+                if (this.packet.position () > 0 && !this.isOverflow)
+                {
+                    this.packet.flip ();
+                    packetHandler.accept (this.packet);
+                }
+                this.packet.clear ();
+                this.isEscaped = false;
+                this.isOverflow = false;
+                continue;
+            }
+
+            if (this.isEscaped)
+            {
+                this.isEscaped = false;
+                if (b == ESC_END)
+                    b = END;
+                else if (b == ESC_ESC)
+                    b = ESC;
+            }
+            else if (b == ESC)
+            {
+                this.isEscaped = true;
+                continue;
+            }
+
+            this.append (b);
+        }
+    }
+
+
+    /**
+     * Get the number of bytes of the current incomplete packet.
+     *
+     * @return The number of bytes
+     */
+    public int getPendingBytes ()
+    {
+        return this.packet.position ();
+    }
+
+
+    private void append (final byte b)
+    {
+        if (this.isOverflow)
+            return;
+
+        if (!this.packet.hasRemaining ())
+        {
+            final int capacity = this.packet.capacity ();
+            if (capacity >= this.maxPacketSize)
+            {
+                // Skip the rest of the packet
+                this.isOverflow = true;
+                return;
+            }
+            final ByteBuffer larger = ByteBuffer.allocate (Math.min (2 * capacity, this.maxPacketSize));
+            this.packet.flip ();
+            larger.put (this.packet);
+            this.packet = larger;
+        }
+        this.packet.put (b);
+    }
+}
@@ -539,8 +539,6 @@ public class MainFrame extends JFrame
         final boolean fullyInitialised = this.callback.isFullyInitialised ();
         if (!fullyInitialised)
         {
-            // First trigger buffered info messages
-            this.logModel.info ("");
             this.logModel.error ("Close all Reaper configuration dialogs to enable the DrivenByMoss window!", null);
         }
 
@@ -25,8 +25,11 @@ import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
+import javax.swing.JTextField;
 import javax.swing.KeyStroke;
 import javax.swing.ListSelectionModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.ListSelectionEvent;
 
 import java.awt.BorderLayout;
@@ -62,6 +65,8 @@ public class BrowserDialog extends BasicDialog
     private final List<JLabel>          filterColumnLabels = new ArrayList<> ();
     private final JLabel                infoTextLabel      = new JLabel ();
     private JListX<String>              resultListBox;
+    private JTextField                  searchField;
+    private boolean                     isUpdatingSearchField;
     private transient BrowserImpl       browser;
     private final transient Object      browserLock        = new Object ();
     private JMenu                       displayMenu        = null;
@@ -138,6 +143,34 @@ public class BrowserDialog extends BasicDialog
 
         final BoxPanel infoPane = new BoxPanel (BoxLayout.X_AXIS, true);
         infoPane.add (this.infoTextLabel);
+        infoPane.createSpace (BoxPanel.GLUE);
+        this.searchField = infoPane.createField ("Search:", null, BoxPanel.NONE, 20);
+        this.searchField.getDocument ().addDocumentListener (new DocumentListener ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public void insertUpdate (final DocumentEvent e)
+            {
+                BrowserDialog.this.searchChanges ();
+            }
+
+
+            /** {@inheritDoc} */
+            @Override
+            public void removeUpdate (final DocumentEvent e)
+            {
+                BrowserDialog.this.searchChanges ();
+            }
+
+
+            /** {@inheritDoc} */
+            @Override
+            public void changedUpdate (final DocumentEvent e)
+            {
+                // Only attribute changes
+            }
+        });
+        this.searchField.addActionListener (e -> this.ok ());
 
         final Font f = this.infoTextLabel.getFont ();
         this.infoTextLabel.setFont (f.deriveFont (f.getStyle () | Font.BOLD));
@@ -271,6 +304,7 @@ public class BrowserDialog extends BasicDialog
             this.browser = browser;
 
             this.infoTextLabel.setText (this.browser.getInfoText ());
+            this.updateSearchField ();
         }
     }
 
@@ -326,6 +360,7 @@ public class BrowserDialog extends BasicDialog
                 return;
 
             this.updateFilterSelections ();
+            this.updateSearchField ();
 
             final DefaultListModel<String> model;
             if (this.browser.isPresetContentType ())
@@ -442,6 +477,37 @@ public class BrowserDialog extends BasicDialog
     }
 
 
+    /**
+     * Show the search text of the browser, e.g. if it was set via OSC.
+     */
+    private void updateSearchField ()
+    {
+        final String searchText = this.browser.getSearchText ();
+        if (this.searchField.getText ().equals (searchText))
+            return;
+
+        this.isUpdatingSearchField = true;
+        this.searchField.setText (searchText);
+        this.isUpdatingSearchField = false;
+    }
+
+
+    /**
+     * The search text was edited.
+     */
+    private void searchChanges ()
+    {
+        if (this.isUpdatingSearchField)
+            return;
+
+        synchronized (this.browserLock)
+        {
+            if (this.browser != null)
+                this.browser.setSearchText (this.searchField.getText ());
+        }
+    }
+
+
     /**
      * A different result item was selected.
      *
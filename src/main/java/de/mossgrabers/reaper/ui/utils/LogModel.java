@@ -1,7 +1,11 @@
 package de.mossgrabers.reaper.ui.utils;
 
+import de.mossgrabers.framework.utils.RingBufferQueue;
+
 import javax.swing.JTextPane;
+import javax.swing.Timer;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
 import javax.swing.text.Style;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.StyledDocument;
@@ -9,10 +13,17 @@ import javax.swing.text.StyledDocument;
 import java.awt.Color;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Contains the data for the display content.
+ * Contains the data for the display content. Messages are added to a lock-free ring buffer from
+ * any thread and are drained into the text pane by a timer at a fixed rate. Consecutive identical
+ * messages are shown once with a counter, the number of messages per source and second is limited
+ * and only the latest lines are kept.
  *
  * Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
  *
@@ -20,12 +31,28 @@ import java.io.StringWriter;
  */
 public class LogModel
 {
-    private Style               normalStyle;
-    private Style               errorStyle;
+    private static final int                QUEUE_CAPACITY          = 8192;
+    private static final int                DRAIN_RATE              = 100;
+    private static final int                MAX_LINES               = 5000;
+    private static final int                MAX_MESSAGES_PER_SOURCE = 20;
+    private static final int                MAX_SOURCES             = 1024;
+    private static final int                MAX_SOURCE_LENGTH       = 80;
+
+    private Style                           normalStyle;
+    private Style                           errorStyle;
+
+    private final Object                    updateLock              = new Object ();
+    private JTextPane                       textPane;
+    private Timer                           drainTimer;
+
+    private final RingBufferQueue<LogEntry> queue                   = new RingBufferQueue<> (QUEUE_CAPACITY);
+    private final Map<String, RateLimit>    rateLimits              = new ConcurrentHashMap<> ();
+    private long                            reportedDroppedCount    = 0;
+    private long                            lastReportSecond        = 0;
 
-    private final Object        updateLock = new Object ();
-    private JTextPane           textPane;
-    private final StringBuilder buffer     = new StringBuilder ();
+    // The last added message, which is not yet shown to count repetitions
+    private LogEntry                        pendingEntry;
+    private int                             pendingCount;
 
 
     /**
@@ -38,7 +65,7 @@ public class LogModel
 
 
     /**
-     * Set the logging text area.
+     * Set the logging text area. Must be called from the Swing thread.
      *
      * @param loggingTextPane Where to output the logging messages
      */
@@ -53,8 +80,11 @@ public class LogModel
             this.errorStyle = this.textPane.addStyle ("Error Style", null);
             StyleConstants.setForeground (this.errorStyle, Color.RED);
 
-            if (this.buffer.length () > 0)
-                this.info ("");
+            if (this.drainTimer == null)
+            {
+                this.drainTimer = new Timer (DRAIN_RATE, event -> this.drain ());
+                this.drainTimer.start ();
+            }
         }
     }
 
@@ -67,12 +97,20 @@ public class LogModel
      */
     public void error (final String message, final Throwable exception)
     {
-        this.log (message, true);
+        if (!this.isAllowed (message))
+            return;
+
         if (exception == null)
+        {
+            this.queue.offer (new LogEntry (message, true));
             return;
+        }
+
+        // Only render the stack trace if the message is not suppressed
         final StringWriter writer = new StringWriter ();
+        writer.append (message).append ('\n');
         exception.printStackTrace (new PrintWriter (writer));
-        this.log (writer.toString (), true);
+        this.queue.offer (new LogEntry (writer.toString (), true));
     }
 
 
@@ -95,49 +133,284 @@ public class LogModel
      */
     public void log (final String message, final boolean isError)
     {
-        if (message.length () == 0 && this.buffer.isEmpty ())
-            return;
+        if (this.isAllowed (message))
+            this.queue.offer (new LogEntry (message, isError));
+    }
 
-        SafeRunLater.execute (null, () -> {
 
-            synchronized (this.updateLock)
+    /**
+     * Clear the messages.
+     */
+    public void clearLogMessage ()
+    {
+        synchronized (this.updateLock)
+        {
+            this.pendingEntry = null;
+            this.pendingCount = 0;
+            while (this.queue.poll () != null)
             {
-                if (message.length () > 0)
-                    this.buffer.append (message).append ("\n");
+                // Discard all waiting messages
+            }
+            if (this.textPane != null)
+                this.textPane.setText ("");
+        }
+    }
+
+
+    /**
+     * Checks the rate limit of the source of the message.
+     *
+     * @param message The message
+     * @return True if the message can be logged, false if it is empty or suppressed
+     */
+    private boolean isAllowed (final String message)
+    {
+        if (message == null || message.isEmpty ())
+            return false;
+
+        if (this.rateLimits.size () >= MAX_SOURCES)
+            this.rateLimits.clear ();
+        final RateLimit rateLimit = this.rateLimits.computeIfAbsent (getSource (message), RateLimit::new);
+        return rateLimit.tryAcquire (getSecond ());
+    }
 
-                if (this.textPane != null)
+
+    /**
+     * Get the source of a message, which is the text in front of the first colon, e.g. "Unhandled
+     * Track Parameter" for messages which add the details after a colon. Otherwise it is the
+     * message itself.
+     *
+     * @param message The message
+     * @return The source
+     */
+    private static String getSource (final String message)
+    {
+        final int colon = message.indexOf (':');
+        final int end = colon > 0 ? colon : message.length ();
+        return end > MAX_SOURCE_LENGTH ? message.substring (0, MAX_SOURCE_LENGTH) : message.substring (0, end);
+    }
+
+
+    private static long getSecond ()
+    {
+        return System.nanoTime () / 1_000_000_000L;
+    }
+
+
+    /**
+     * Move the waiting messages to the text pane. Called from the Swing timer.
+     */
+    private void drain ()
+    {
+        synchronized (this.updateLock)
+        {
+            if (this.textPane == null)
+                return;
+
+            final StyledDocument doc = this.textPane.getStyledDocument ();
+            final StringBuilder text = new StringBuilder ();
+            boolean isTextError = false;
+
+            LogEntry entry;
+            while ((entry = this.queue.poll ()) != null)
+            {
+                if (this.pendingEntry != null && this.pendingEntry.equals (entry))
                 {
-                    try
-                    {
-                        final StyledDocument doc = this.textPane.getStyledDocument ();
-                        doc.insertString (doc.getLength (), this.buffer.toString (), isError ? this.errorStyle : this.normalStyle);
-                    }
-                    catch (final BadLocationException ex)
-                    {
-                        // Ignore since we cannot do anything meaningful with this
-                    }
-
-                    this.buffer.setLength (0);
-                    this.textPane.setCaretPosition (this.textPane.getDocument ().getLength ());
+                    this.pendingCount++;
+                    continue;
                 }
+                isTextError = this.appendPending (doc, text, isTextError);
+                this.pendingEntry = entry;
+                this.pendingCount = 1;
+            }
+            isTextError = this.appendPending (doc, text, isTextError);
+
+            final long second = getSecond ();
+            if (second != this.lastReportSecond)
+            {
+                this.lastReportSecond = second;
+                isTextError = this.appendReports (doc, text, isTextError);
             }
 
-        });
+            if (text.length () > 0)
+                insert (doc, text, isTextError ? this.errorStyle : this.normalStyle);
 
+            if (!removeOldLines (doc) && text.length () == 0)
+                return;
+            this.textPane.setCaretPosition (doc.getLength ());
+        }
     }
 
 
     /**
-     * Clear the messages.
+     * Appends the pending message with the number of its repetitions.
+     *
+     * @param doc The document
+     * @param text The text with the same style which is not yet inserted into the document
+     * @param isTextError The style of the text
+     * @return The style of the text after adding the pending message
      */
-    public void clearLogMessage ()
+    private boolean appendPending (final StyledDocument doc, final StringBuilder text, final boolean isTextError)
     {
-        synchronized (this.updateLock)
+        if (this.pendingEntry == null)
+            return isTextError;
+
+        final boolean isError = this.pendingEntry.isError;
+        if (isError != isTextError && text.length () > 0)
+            insert (doc, text, isTextError ? this.errorStyle : this.normalStyle);
+
+        text.append (this.pendingEntry.message);
+        if (this.pendingCount > 1)
+            text.append (" (").append (this.pendingCount).append ("x)");
+        text.append ('\n');
+
+        this.pendingEntry = null;
+        this.pendingCount = 0;
+        return isError;
+    }
+
+
+    /**
+     * Appends the number of dropped and suppressed messages since the last report.
+     *
+     * @param doc The document
+     * @param text The text with the same style which is not yet inserted into the document
+     * @param isTextError The style of the text
+     * @return The style of the text after adding the reports
+     */
+    private boolean appendReports (final StyledDocument doc, final StringBuilder text, final boolean isTextError)
+    {
+        final StringBuilder report = new StringBuilder ();
+        for (final RateLimit rateLimit: this.rateLimits.values ())
         {
-            if (this.textPane == null)
-                this.buffer.setLength (0);
-            else
-                this.textPane.setText ("");
+            final int suppressed = rateLimit.suppressedCount.getAndSet (0);
+            if (suppressed > 0)
+                report.append ("Suppressed ").append (suppressed).append (" messages: ").append (rateLimit.source).append ('\n');
+        }
+
+        final long droppedCount = this.queue.getDroppedCount ();
+        if (droppedCount != this.reportedDroppedCount)
+        {
+            report.append ("Logging is too fast, dropped ").append (droppedCount - this.reportedDroppedCount).append (" messages.\n");
+            this.reportedDroppedCount = droppedCount;
+        }
+
+        if (report.isEmpty ())
+            return isTextError;
+        if (isTextError && text.length () > 0)
+            insert (doc, text, this.errorStyle);
+        text.append (report);
+        return false;
+    }
+
+
+    /**
+     * Removes the oldest lines if the document contains more than the maximum number of lines.
+     *
+     * @param doc The document
+     * @return True if lines were removed
+     */
+    private static boolean removeOldLines (final StyledDocument doc)
+    {
+        final Element root = doc.getDefaultRootElement ();
+        final int excessLines = root.getElementCount () - MAX_LINES;
+        if (excessLines <= 0)
+            return false;
+        try
+        {
+            doc.remove (0, root.getElement (excessLines).getStartOffset ());
+        }
+        catch (final BadLocationException ex)
+        {
+            // Ignore since we cannot do anything meaningful with this
+        }
+        return true;
+    }
+
+
+    /**
+     * Inserts the text at the end of the document and clears it.
+     *
+     * @param doc The document
+     * @param text The text
+     * @param style The style of the text
+     */
+    private static void insert (final StyledDocument doc, final StringBuilder text, final Style style)
+    {
+        try
+        {
+            doc.insertString (doc.getLength (), text.toString (), style);
+        }
+        catch (final BadLocationException ex)
+        {
+            // Ignore since we cannot do anything meaningful with this
+        }
+        text.setLength (0);
+    }
+
+
+    /** A logged message. */
+    private static class LogEntry
+    {
+        final String  message;
+        final boolean isError;
+
+
+        LogEntry (final String message, final boolean isError)
+        {
+            this.message = message;
+            this.isError = isError;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            return obj instanceof final LogEntry other && this.isError == other.isError && this.message.equals (other.message);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.message.hashCode ();
+        }
+    }
+
+
+    /** Limits the number of messages per second of one source. */
+    private static class RateLimit
+    {
+        final String        source;
+        final AtomicLong    second          = new AtomicLong (-1);
+        final AtomicInteger count           = new AtomicInteger ();
+        final AtomicInteger suppressedCount = new AtomicInteger ();
+
+
+        RateLimit (final String source)
+        {
+            this.source = source;
+        }
+
+
+        /**
+         * Counts a message of the source.
+         *
+         * @param now The current second
+         * @return True if the message can be logged, false if the limit of the current second is
+         *         reached
+         */
+        boolean tryAcquire (final long now)
+        {
+            final long s = this.second.get ();
+            if (s != now && this.second.compareAndSet (s, now))
+                this.count.set (0);
+            if (this.count.incrementAndGet () <= MAX_MESSAGES_PER_SOURCE)
+                return true;
+            this.suppressedCount.incrementAndGet ();
+            return false;
         }
     }
 }